@@ -0,0 +1,22 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+/**
+ * Aggregates {@link ActorCollectors#summarizing(ActorAggregate...)} can
+ * compute in a single pass over a dataset of {@code Actor}s.
+ */
+public enum ActorAggregate {
+    /** Number of actors, as {@code countActors}. */
+    COUNT,
+    /** Number of distinct actors, as {@code countDistinctActors}. */
+    COUNT_DISTINCT,
+    /** Oldest actor, the first one on ties, as {@code getOldestActor}. */
+    OLDEST,
+    /** Youngest actor, the first one on ties, as {@code getYoungestActor}. */
+    YOUNGEST,
+    /** Average age, as {@code getAverageAgeOfAllActors}. */
+    AVERAGE_AGE,
+    /** Average age of the distinct actors, as {@code getAverageAgeOfDistinctActors}. */
+    AVERAGE_AGE_OF_DISTINCT,
+    /** Number of actors per movie, as {@code countActorsGroupedByMovie}. */
+    COUNT_BY_MOVIE
+}
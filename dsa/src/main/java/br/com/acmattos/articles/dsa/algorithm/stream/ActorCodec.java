@@ -0,0 +1,44 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary encoding of {@code Actor}s, used to spill them to disk: the
+ * four text fields as modified UTF-8 strings prefixed by their length, then
+ * the age as a 4-byte int.
+ */
+public final class ActorCodec {
+
+    private ActorCodec() {
+    }
+
+    /**
+     * Writes the given actor.
+     *
+     * @param out the output the actor is written to.
+     * @param actor the actor to be written.
+     * @throws IOException if the actor can't be written.
+     */
+    public static void write(DataOutput out, Actor actor) throws IOException {
+        out.writeUTF(actor.firstName());
+        out.writeUTF(actor.lastName());
+        out.writeUTF(actor.gender());
+        out.writeUTF(actor.movie());
+        out.writeInt(actor.age());
+    }
+
+    /**
+     * Reads the next actor.
+     *
+     * @param in the input the actor is read from.
+     * @return the actor read.
+     * @throws java.io.EOFException if the input has no more actors.
+     * @throws IOException if the actor can't be read.
+     */
+    public static Actor read(DataInput in) throws IOException {
+        return new Actor(in.readUTF(), in.readUTF(), in.readUTF(),
+            in.readUTF(), in.readInt());
+    }
+}
@@ -0,0 +1,257 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * Collectors computing {@code StreamExamples} style analytics over streams of
+ * {@code Actor}s. They work on sequential and parallel streams alike.
+ */
+public final class ActorCollectors {
+
+    private ActorCollectors() {
+    }
+
+    /**
+     * Returns a collector computing all the given aggregates in a single pass
+     * over the stream, instead of one pass per aggregate. On parallel streams
+     * each thread accumulates its own part and the parts are merged in
+     * encounter order, so ties are broken as in the sequential case.
+     *
+     * @param aggregates the aggregates to be computed.
+     * @return a collector producing the summary of the aggregates.
+     */
+    public static Collector<Actor, ?, ActorSummary> summarizing(
+        ActorAggregate... aggregates) {
+        EnumSet<ActorAggregate> requested = EnumSet.noneOf(ActorAggregate.class);
+        requested.addAll(Arrays.asList(aggregates));
+        return Collector.of(
+            () -> new ActorSummary.Accumulator(requested),
+            ActorSummary.Accumulator::accept,
+            ActorSummary.Accumulator::combine,
+            ActorSummary.Accumulator::finish);
+    }
+
+    /**
+     * Returns a collector counting the elements of each group, like
+     * {@code groupingBy(classifier, counting())}, but keeping each count in a
+     * mutable {@code int} cell instead of re-boxing a {@code Long} on every
+     * element. Counts are only boxed once per group, when the map is
+     * finished.
+     *
+     * @param classifier the function mapping elements to their group.
+     * @return a collector producing the number of elements per group.
+     */
+    public static <T, K> Collector<T, ?, Map<K, Integer>> groupingByToIntCount(
+        Function<? super T, ? extends K> classifier) {
+        return Collector.of(
+            HashMap<K, int[]>::new,
+            (cells, element) ->
+                cells.computeIfAbsent(classifier.apply(element),
+                    key -> new int[1])[0]++,
+            (cells, later) -> {
+                later.forEach((key, cell) ->
+                    cells.computeIfAbsent(key, k -> new int[1])[0] += cell[0]);
+                return cells;
+            },
+            cells -> {
+                Map<K, Integer> counts = new HashMap<>();
+                cells.forEach((key, cell) -> counts.put(key, cell[0]));
+                return counts;
+            });
+    }
+
+    /**
+     * Returns a concurrent collector counting the elements of each group. All
+     * threads of a parallel stream share a single map of {@code LongAdder}s,
+     * whose striped cells let threads count the same group without contending
+     * on one value, so no per-thread maps are built and merged.
+     *
+     * @param classifier the function mapping elements to their group.
+     * @return a collector producing the number of elements per group.
+     */
+    public static <T, K> Collector<T, ?, Map<K, Long>> groupingByConcurrentCounting(
+        Function<? super T, ? extends K> classifier) {
+        return Collector.of(
+            ConcurrentHashMap<K, LongAdder>::new,
+            (adders, element) ->
+                adders.computeIfAbsent(classifier.apply(element),
+                    key -> new LongAdder()).increment(),
+            (adders, later) -> {
+                later.forEach((key, adder) ->
+                    adders.computeIfAbsent(key, k -> new LongAdder())
+                        .add(adder.sum()));
+                return adders;
+            },
+            adders -> {
+                Map<K, Long> counts = new HashMap<>();
+                adders.forEach((key, adder) -> counts.put(key, adder.sum()));
+                return counts;
+            },
+            Collector.Characteristics.CONCURRENT,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector counting the elements of each group, where groups
+     * are identified by dense int ids (e.g., the ids stored by an
+     * {@code ActorTable}, from its {@code StringDictionary}s). Counting is an
+     * array increment, with no hashing or boxing per element; on parallel
+     * streams each thread fills its own array and arrays are merged by adding
+     * them up.
+     *
+     * @param id the function mapping elements to the id of their group.
+     * @param key the function mapping ids back to the group keys.
+     * @return a collector producing the number of elements per group.
+     */
+    public static <T, K> Collector<T, ?, Map<K, Long>> groupingByIdCounting(
+        ToIntFunction<? super T> id, IntFunction<? extends K> key) {
+        return Collector.of(
+            IdCounts::new,
+            (counts, element) -> counts.increment(id.applyAsInt(element)),
+            IdCounts::add,
+            counts -> counts.toMap(key),
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector keeping the {@code k} least elements according to
+     * the given comparator, sorted, with ties kept in encounter order: the
+     * same result as {@code sorted(comparator).limit(k)}, without sorting the
+     * whole stream. A bounded max-heap holds the best {@code k} elements seen
+     * so far, so most elements cost a single comparison against its top. On
+     * parallel streams the partial results are merged in encounter order.
+     * Time Complexity: O(n log k).
+     * Space Complexity: O(k).
+     *
+     * @param k the number of elements to be kept.
+     * @param comparator the order the elements are ranked by.
+     * @return a collector producing up to {@code k} elements, sorted.
+     * @throws IllegalStateException if {@code k} is bellow zero.
+     */
+    public static <T> Collector<T, ?, List<T>> topK(int k,
+        Comparator<? super T> comparator) {
+        if(k < 0) {
+            throw new IllegalStateException(
+                "The number of values can't be less than zero!");
+        }
+        return Collector.of(
+            () -> new TopK<T>(k, comparator),
+            TopK::accept,
+            TopK::combine,
+            TopK::values);
+    }
+
+    /**
+     * Bounded max-heap of the best elements seen so far. Elements are
+     * numbered as they arrive, and ties are ranked by number, so an element
+     * never displaces an equal one seen before it.
+     */
+    private static final class TopK<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final PriorityQueue<Entry<T>> heap;
+        private long next;
+
+        private record Entry<T>(T value, long sequence) {
+        }
+
+        TopK(int k, Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = new PriorityQueue<>(Math.max(1, k),
+                (a, b) -> compare(b, a));
+        }
+
+        private int compare(Entry<T> a, Entry<T> b) {
+            int result = comparator.compare(a.value(), b.value());
+            return result != 0 ? result : Long.compare(a.sequence(), b.sequence());
+        }
+
+        void accept(T value) {
+            if(heap.size() < k) {
+                heap.add(new Entry<>(value, next++));
+            } else if(k > 0 && comparator.compare(value, heap.peek().value()) < 0) {
+                heap.poll();
+                heap.add(new Entry<>(value, next++));
+            } else {
+                next++;
+            }
+        }
+
+        /**
+         * Merges the best elements of an accumulator that saw later elements,
+         * preferring this one's on ties.
+         */
+        TopK<T> combine(TopK<T> later) {
+            List<T> left = values();
+            List<T> right = later.values();
+            heap.clear();
+            next = 0;
+            int i = 0;
+            int j = 0;
+            while(heap.size() < k && (i < left.size() || j < right.size())) {
+                boolean takeLeft = j == right.size() || (i < left.size()
+                    && comparator.compare(left.get(i), right.get(j)) <= 0);
+                heap.add(new Entry<>(takeLeft ? left.get(i++) : right.get(j++),
+                    next++));
+            }
+            return this;
+        }
+
+        List<T> values() {
+            List<Entry<T>> entries = new ArrayList<>(heap);
+            entries.sort(this::compare);
+            List<T> values = new ArrayList<>(entries.size());
+            entries.forEach(entry -> values.add(entry.value()));
+            return values;
+        }
+    }
+
+    /**
+     * Growable array of counts indexed by group id.
+     */
+    private static final class IdCounts {
+        private long[] counts = new long[16];
+
+        void increment(int id) {
+            if(id >= counts.length) {
+                counts = Arrays.copyOf(counts,
+                    Math.max(id + 1, counts.length + (counts.length >> 1)));
+            }
+            counts[id]++;
+        }
+
+        IdCounts add(IdCounts other) {
+            if(other.counts.length > counts.length) {
+                counts = Arrays.copyOf(counts, other.counts.length);
+            }
+            for (int id = 0; id < other.counts.length; id++) {
+                counts[id] += other.counts[id];
+            }
+            return this;
+        }
+
+        <K> Map<K, Long> toMap(IntFunction<? extends K> key) {
+            Map<K, Long> map = new HashMap<>();
+            for (int id = 0; id < counts.length; id++) {
+                if(counts[id] > 0) {
+                    map.put(key.apply(id), counts[id]);
+                }
+            }
+            return map;
+        }
+    }
+}
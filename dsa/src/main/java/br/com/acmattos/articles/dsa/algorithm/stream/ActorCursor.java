@@ -0,0 +1,12 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+/**
+ * Position of an actor in an {@code ActorSortedIndex}: its sort key plus its
+ * position in the source, which tells apart actors sharing the same name.
+ *
+ * @param firstName the first name of the actor.
+ * @param lastName the last name of the actor.
+ * @param sequence the position of the actor in the source collection.
+ */
+public record ActorCursor(String firstName, String lastName, int sequence) {
+}
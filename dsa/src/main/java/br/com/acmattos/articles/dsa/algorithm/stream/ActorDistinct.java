@@ -0,0 +1,211 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Distinct operators over {@code Actor}s that don't buffer every record.
+ * <p>
+ * {@code Stream.distinct()} keeps each distinct {@code Actor} in a
+ * {@code LinkedHashSet}, comparing the five fields of records reached through
+ * a few references each. These operators work on 64-bit fingerprints of the
+ * records instead: 8 bytes per distinct actor in a primitive set, or a
+ * fixed-size HyperLogLog sketch when an estimate is enough. The exact count
+ * spills the records to disk, partitioned by fingerprint, so only one
+ * partition is held in memory at a time.
+ * <p>
+ * Two different actors sharing a fingerprint is treated as a duplicate by the
+ * fingerprint operators; with 64-bit fingerprints, the odds are about
+ * {@code n^2 / 2^65} for {@code n} distinct actors (e.g., 1 in 3,700 for 100
+ * million of them).
+ */
+public final class ActorDistinct {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private ActorDistinct() {
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of every field of the given actor. Equal
+     * actors have equal fingerprints.
+     * Time Complexity: O(l), where l is the length of the text fields.
+     *
+     * @param actor the actor to be fingerprinted.
+     * @return the fingerprint of the actor.
+     */
+    public static long fingerprint(Actor actor) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, actor.firstName());
+        hash = hash(hash, actor.lastName());
+        hash = hash(hash, actor.gender());
+        hash = hash(hash, actor.movie());
+        hash = (hash ^ actor.age()) * FNV_PRIME;
+        // Murmur3 finalizer: spreads every input bit over the 64 output bits,
+        // as HyperLogLog expects.
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * FNV-1a over the chars of a field, then over its length, so that the
+     * field boundaries are part of the fingerprint.
+     */
+    private static long hash(long hash, String field) {
+        for (int i = 0; i < field.length(); i++) {
+            hash = (hash ^ field.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ field.length()) * FNV_PRIME;
+    }
+
+    /**
+     * Returns the first occurrence of every distinct actor, in encounter
+     * order, remembering only the fingerprints of the actors seen. The
+     * returned stream is sequential.
+     * Space Complexity: O(d), 8 bytes per distinct actor.
+     *
+     * @param actors the actors to be deduplicated.
+     * @return a stream of the distinct actors.
+     */
+    public static Stream<Actor> distinct(Stream<Actor> actors) {
+        LongHashSet seen = new LongHashSet();
+        return actors.sequential().filter(actor -> seen.add(fingerprint(actor)));
+    }
+
+    /**
+     * Counts the distinct actors by their fingerprints.
+     * Space Complexity: O(d), 8 bytes per distinct actor.
+     *
+     * @param actors the actors to be counted.
+     * @return the number of distinct actors.
+     */
+    public static long countDistinct(Stream<Actor> actors) {
+        LongHashSet seen = new LongHashSet();
+        actors.sequential().forEach(actor -> seen.add(fingerprint(actor)));
+        return seen.size();
+    }
+
+    /**
+     * Returns a collector estimating the number of distinct actors with a
+     * HyperLogLog sketch of the given precision. On parallel streams each
+     * thread fills its own sketch and sketches are merged.
+     * Space Complexity: O(2^p).
+     *
+     * @param precision the precision of the sketch, from 4 to 18.
+     * @return a collector producing the estimated number of distinct actors.
+     * @throws IllegalStateException if the precision is out of range.
+     */
+    public static Collector<Actor, ?, Long> countingDistinctApproximately(
+        int precision) {
+        HyperLogLog.checkPrecision(precision);
+        return Collector.of(
+            () -> new HyperLogLog(precision),
+            (sketch, actor) -> sketch.add(fingerprint(actor)),
+            HyperLogLog::merge,
+            HyperLogLog::estimate,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Counts the distinct actors exactly, holding a single partition of them
+     * in memory at a time. Actors are first written to {@code partitions}
+     * temporary files of the given directory, picked by fingerprint, so
+     * duplicates always land in the same file; each file is then read back
+     * and deduplicated on its own. The files are deleted before returning.
+     * Space Complexity: O(d / partitions) in memory, O(n) on disk.
+     *
+     * @param actors the actors to be counted.
+     * @param partitions the number of partitions, the more the less memory.
+     * @param directory the directory the partitions are written to.
+     * @return the number of distinct actors.
+     * @throws IllegalStateException if the number of partitions is bellow one.
+     * @throws UncheckedIOException if the partitions can't be written or read.
+     */
+    public static long countDistinctSpilling(Stream<Actor> actors,
+        int partitions, Path directory) {
+        if(partitions < 1) {
+            throw new IllegalStateException(
+                "The number of partitions can't be less than one!");
+        }
+        Path[] files = new Path[partitions];
+        DataOutputStream[] outs = new DataOutputStream[partitions];
+        try {
+            for (int i = 0; i < partitions; i++) {
+                files[i] = Files.createTempFile(directory, "distinct-", ".bin");
+                outs[i] = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(files[i])));
+            }
+            Iterator<Actor> iterator = actors.iterator();
+            while(iterator.hasNext()) {
+                Actor actor = iterator.next();
+                int partition =
+                    (int) Long.remainderUnsigned(fingerprint(actor), partitions);
+                ActorCodec.write(outs[partition], actor);
+            }
+            for (DataOutputStream out : outs) {
+                out.close();
+            }
+            long count = 0;
+            for (Path file : files) {
+                count += countDistinct(file);
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (int i = 0; i < partitions; i++) {
+                closeAndDelete(outs[i], files[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads back a partition: only an end of file between two records ends
+     * it, while one inside a record is a truncated partition.
+     */
+    static long countDistinct(Path partition) throws IOException {
+        Set<Actor> distinct = new HashSet<>();
+        try (BufferedInputStream buffered =
+                 new BufferedInputStream(Files.newInputStream(partition))) {
+            DataInputStream in = new DataInputStream(buffered);
+            while(true) {
+                buffered.mark(1);
+                if(buffered.read() < 0) {
+                    return distinct.size();
+                }
+                buffered.reset();
+                distinct.add(ActorCodec.read(in));
+            }
+        }
+    }
+
+    private static void closeAndDelete(DataOutputStream out, Path file) {
+        try {
+            if(out != null) {
+                out.close();
+            }
+        } catch (IOException e) {
+            // Best effort: the partition is deleted anyway.
+        } finally {
+            try {
+                if(file != null) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                // Best effort: the partition is left in the temporary directory.
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import br.com.acmattos.articles.dsa.structure.heap.IntBinaryHeap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * External merge sort of actors, for inputs larger than the heap.
+ * <p>
+ * The input is read in runs of at most {@code runSize} actors. Each run is
+ * sorted in memory and spilled to a temporary file, encoded by
+ * {@code ActorCodec}. The runs are then merged lazily: the head of every
+ * run is kept, and a primitive heap of run numbers, ordered by their heads,
+ * yields the run holding the next actor. Ties are broken by run number, and
+ * runs hold consecutive parts of the input, so the sort is stable, like
+ * {@code Stream.sorted}.
+ * <p>
+ * At most 64 runs are merged at once, to bound the number of open files:
+ * with more runs, consecutive groups of them are first merged into longer
+ * runs, in as many passes as needed.
+ * <p>
+ * Only one run is in memory while sorting, and one actor per run while
+ * merging. Inputs fitting in a single run are sorted in memory, without
+ * touching the disk.
+ * <p>
+ * The memory budget of a run is given as a number of actors, not bytes: the
+ * size of an actor depends on its strings, which are not measured. With
+ * short names and titles (about ten Latin-1 chars each) an actor and its
+ * four strings take roughly 250 bytes of heap, so a budget of {@code b}
+ * bytes is about {@code b / 250} actors; longer text needs smaller runs.
+ */
+public final class ActorExternalSort {
+    private static final int MAX_FAN_IN = 64;
+
+    private ActorExternalSort() {
+    }
+
+    /**
+     * Returns the given actors sorted by the comparator, as a lazy stream.
+     * The input is consumed and spilled before this method returns; the
+     * stream must be closed (or fully consumed) to delete the runs.
+     * Time Complexity: O(n log n), with every actor written and read once
+     * per merge pass.
+     *
+     * @param actors the actors to be sorted.
+     * @param comparator the order of the actors.
+     * @param runSize the maximum number of actors sorted in memory at once,
+     *        which approximates the memory budget of the sort.
+     * @param directory the directory the runs are spilled to.
+     * @return a stream of the sorted actors.
+     * @throws IllegalStateException if the run size is bellow one.
+     * @throws UncheckedIOException if a run can't be written or read.
+     */
+    public static Stream<Actor> sorted(Stream<Actor> actors,
+        Comparator<? super Actor> comparator, int runSize, Path directory) {
+        return sorted(actors, comparator, runSize, MAX_FAN_IN, directory);
+    }
+
+    static Stream<Actor> sorted(Stream<Actor> actors,
+        Comparator<? super Actor> comparator, int runSize, int fanIn,
+        Path directory) {
+        if(runSize < 1) {
+            throw new IllegalStateException(
+                "The run size can't be less than one!");
+        }
+        List<Path> files = new ArrayList<>();
+        try {
+            List<Actor> run = new ArrayList<>();
+            List<Path> runs = new ArrayList<>();
+            Iterator<Actor> iterator = actors.iterator();
+            while(iterator.hasNext()) {
+                run.add(iterator.next());
+                if(run.size() == runSize && iterator.hasNext()) {
+                    run.sort(comparator);
+                    runs.add(spill(run.iterator(), files, directory));
+                    run.clear();
+                }
+            }
+            run.sort(comparator);
+            if(runs.isEmpty()) {
+                return run.stream();
+            }
+            if(!run.isEmpty()) {
+                runs.add(spill(run.iterator(), files, directory));
+            }
+            while(runs.size() > fanIn) {
+                runs = mergePass(runs, comparator, fanIn, files, directory);
+            }
+            Merge merge = new Merge(runs, comparator);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                    merge, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(merge::close);
+        } catch (IOException e) {
+            files.forEach(ActorExternalSort::delete);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            files.forEach(ActorExternalSort::delete);
+            throw e;
+        }
+    }
+
+    /**
+     * Merges consecutive groups of at most {@code fanIn} runs into single
+     * runs, so no more than {@code fanIn} files are open at once. Groups keep
+     * the order of the runs, so the merge stays stable.
+     */
+    private static List<Path> mergePass(List<Path> runs,
+        Comparator<? super Actor> comparator, int fanIn, List<Path> files,
+        Path directory) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        for (int from = 0; from < runs.size(); from += fanIn) {
+            List<Path> group = runs.subList(from,
+                Math.min(from + fanIn, runs.size()));
+            if(group.size() == 1) {
+                merged.add(group.get(0));
+                continue;
+            }
+            Merge merge = new Merge(new ArrayList<>(group), comparator);
+            try {
+                merged.add(spill(merge, files, directory));
+            } finally {
+                merge.close();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Writes the given sorted actors to a new run, registered in the files
+     * to be deleted on failure.
+     */
+    private static Path spill(Iterator<Actor> actors, List<Path> files,
+        Path directory) throws IOException {
+        Path file = Files.createTempFile(directory, "run-", ".bin");
+        files.add(file);
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file)))) {
+            while(actors.hasNext()) {
+                ActorCodec.write(out, actors.next());
+            }
+        }
+        return file;
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Best effort: the run is left in the temporary directory.
+        }
+    }
+
+    /**
+     * Lazy k-way merge of sorted runs, through a heap of run numbers ordered
+     * by the current head of each run.
+     */
+    private static final class Merge implements Iterator<Actor> {
+        private final List<Path> runs;
+        private final DataInputStream[] ins;
+        private final Actor[] heads;
+        private final IntBinaryHeap heap;
+
+        Merge(List<Path> runs, Comparator<? super Actor> comparator)
+            throws IOException {
+            this.runs = runs;
+            this.ins = new DataInputStream[runs.size()];
+            this.heads = new Actor[runs.size()];
+            this.heap = new IntBinaryHeap(runs.size(), (left, right) -> {
+                int order = comparator.compare(heads[left], heads[right]);
+                return order != 0 ? order : Integer.compare(left, right);
+            });
+            try {
+                for (int i = 0; i < ins.length; i++) {
+                    ins[i] = new DataInputStream(new BufferedInputStream(
+                        Files.newInputStream(runs.get(i))));
+                    heads[i] = read(i);
+                    if(heads[i] != null) {
+                        heap.add(i);
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public Actor next() {
+            if(heap.isEmpty()) {
+                throw new NoSuchElementException("The runs are exhausted!");
+            }
+            int run = heap.peek();
+            Actor next = heads[run];
+            try {
+                heads[run] = read(run);
+                if(heads[run] != null) {
+                    heap.replace(run);
+                } else {
+                    heap.remove();
+                    if(heap.isEmpty()) {
+                        close();
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+            return next;
+        }
+
+        /**
+         * Reads the next actor of a run. Only an end of file between two
+         * records ends the run, while one inside a record is a truncated run.
+         *
+         * @return the next actor, or {@code null} at the end of the run.
+         * @throws java.io.EOFException if the run is truncated.
+         */
+        private Actor read(int run) throws IOException {
+            DataInputStream in = ins[run];
+            in.mark(1);
+            if(in.read() < 0) {
+                return null;
+            }
+            in.reset();
+            return ActorCodec.read(in);
+        }
+
+        void close() {
+            for (int i = 0; i < ins.length; i++) {
+                try {
+                    if(ins[i] != null) {
+                        ins[i].close();
+                    }
+                } catch (IOException e) {
+                    // Best effort: the run is deleted below anyway.
+                }
+                delete(runs.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Line-oriented text formats {@code Actor}s can be read from, one actor per
+ * line, encoded as UTF-8. Lines are parsed straight from the bytes read: no
+ * {@code String} is created for a line, only for the fields of the actor.
+ */
+public enum ActorFormat {
+    /**
+     * Comma separated values, in record order:
+     * {@code firstName,lastName,gender,movie,age}. Fields holding commas or
+     * quotes are quoted, with quotes doubled. Fields can't hold line breaks,
+     * since lines are split on every one of them.
+     */
+    CSV {
+        @Override
+        Actor parse(byte[] line, int from, int to) {
+            return parseCsv(line, from, to);
+        }
+
+        @Override
+        public String format(Actor actor) {
+            return formatCsv(actor);
+        }
+    },
+    /**
+     * Same as {@link #CSV}, with a header line naming the fields.
+     */
+    CSV_WITH_HEADER {
+        @Override
+        Actor parse(byte[] line, int from, int to) {
+            return parseCsv(line, from, to);
+        }
+
+        @Override
+        public String format(Actor actor) {
+            return formatCsv(actor);
+        }
+
+        @Override
+        public String header() {
+            return "firstName,lastName,gender,movie,age";
+        }
+    },
+    /**
+     * One JSON object per line, e.g.
+     * {@code {"firstName":"Uma","lastName":"Wood","gender":"F","movie":"Clash Freddy","age":20}}.
+     * Keys may come in any order, and unknown keys are ignored.
+     */
+    JSON_LINES {
+        @Override
+        Actor parse(byte[] line, int from, int to) {
+            return new JsonLine(line, from, to).parse();
+        }
+
+        @Override
+        public String format(Actor actor) {
+            return "{\"firstName\":" + quoteJson(actor.firstName())
+                + ",\"lastName\":" + quoteJson(actor.lastName())
+                + ",\"gender\":" + quoteJson(actor.gender())
+                + ",\"movie\":" + quoteJson(actor.movie())
+                + ",\"age\":" + actor.age() + "}";
+        }
+    };
+
+    /**
+     * Parses the actor held by the given line, without its line terminator.
+     *
+     * @throws IllegalStateException if the line is malformed.
+     */
+    abstract Actor parse(byte[] line, int from, int to);
+
+    /**
+     * Formats an actor as a line of this format, without its line terminator.
+     *
+     * @param actor the actor to be formatted.
+     * @return the line holding the actor.
+     * @throws IllegalStateException if a field can't be held by a line of
+     *         this format.
+     */
+    public abstract String format(Actor actor);
+
+    /**
+     * Returns the header line of this format.
+     *
+     * @return the header line, or {@code null} if this format has none.
+     */
+    public String header() {
+        return null;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv CSV vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    private static Actor parseCsv(byte[] line, int from, int to) {
+        String[] fields = new String[4];
+        int position = from;
+        for (int i = 0; i < fields.length; i++) {
+            int end = position;
+            if(position < to && line[position] == '"') {
+                StringBuilder field = new StringBuilder();
+                end = position + 1;
+                int start = end;
+                while(true) {
+                    if(end >= to) {
+                        throw malformed(line, from, to);
+                    }
+                    if(line[end] == '"') {
+                        field.append(decode(line, start, end));
+                        if(end + 1 < to && line[end + 1] == '"') {
+                            field.append('"');
+                            end += 2;
+                            start = end;
+                            continue;
+                        }
+                        end++;
+                        break;
+                    }
+                    end++;
+                }
+                fields[i] = field.toString();
+            } else {
+                while(end < to && line[end] != ',') {
+                    end++;
+                }
+                fields[i] = decode(line, position, end);
+            }
+            if(end >= to || line[end] != ',') {
+                throw malformed(line, from, to);
+            }
+            position = end + 1;
+        }
+        return new Actor(fields[0], fields[1], fields[2], fields[3],
+            parseInt(line, position, to, from, to));
+    }
+
+    private static String formatCsv(Actor actor) {
+        return quoteCsv(actor.firstName()) + ',' + quoteCsv(actor.lastName())
+            + ',' + quoteCsv(actor.gender()) + ',' + quoteCsv(actor.movie())
+            + ',' + actor.age();
+    }
+
+    private static String quoteCsv(String field) {
+        if(field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+            throw new IllegalStateException(
+                "CSV fields can't hold line breaks: " + field);
+        }
+        if(field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ CSV ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv JSON vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Parser of a single flat JSON object.
+     */
+    private static final class JsonLine {
+        private final byte[] line;
+        private final int from;
+        private final int to;
+        private int position;
+
+        JsonLine(byte[] line, int from, int to) {
+            this.line = line;
+            this.from = from;
+            this.to = to;
+            this.position = from;
+        }
+
+        Actor parse() {
+            String firstName = null;
+            String lastName = null;
+            String gender = null;
+            String movie = null;
+            Integer age = null;
+            expect('{');
+            if(peek() == '}') {
+                position++;
+            } else {
+                do {
+                    String key = string();
+                    expect(':');
+                    switch (key) {
+                        case "firstName" -> firstName = string();
+                        case "lastName" -> lastName = string();
+                        case "gender" -> gender = string();
+                        case "movie" -> movie = string();
+                        case "age" -> age = number();
+                        default -> skipValue();
+                    }
+                } while(next() == ',');
+                position--;
+                expect('}');
+            }
+            if(peek() != -1 || firstName == null || lastName == null
+                || gender == null || movie == null || age == null) {
+                throw malformed(line, from, to);
+            }
+            return new Actor(firstName, lastName, gender, movie, age);
+        }
+
+        private int peek() {
+            while(position < to && isWhitespace(line[position])) {
+                position++;
+            }
+            return position < to ? line[position] : -1;
+        }
+
+        private int next() {
+            int next = peek();
+            position++;
+            return next;
+        }
+
+        private void expect(char expected) {
+            if(next() != expected) {
+                throw malformed(line, from, to);
+            }
+        }
+
+        private String string() {
+            expect('"');
+            int start = position;
+            while(position < to && line[position] != '"'
+                && line[position] != '\\') {
+                position++;
+            }
+            if(position < to && line[position] == '"') {
+                return decode(line, start, position++);
+            }
+            StringBuilder value = new StringBuilder(decode(line, start, position));
+            while(position < to && line[position] != '"') {
+                if(line[position] == '\\') {
+                    value.append(escape());
+                } else {
+                    int run = position;
+                    while(position < to && line[position] != '"'
+                        && line[position] != '\\') {
+                        position++;
+                    }
+                    value.append(decode(line, run, position));
+                }
+            }
+            expect('"');
+            return value.toString();
+        }
+
+        private char escape() {
+            position++;
+            if(position >= to) {
+                throw malformed(line, from, to);
+            }
+            byte escaped = line[position++];
+            return switch (escaped) {
+                case '"', '\\', '/' -> (char) escaped;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    if(position + 4 > to) {
+                        throw malformed(line, from, to);
+                    }
+                    try {
+                        char unicode = (char) Integer.parseInt(
+                            decode(line, position, position + 4), 16);
+                        position += 4;
+                        yield unicode;
+                    } catch (NumberFormatException e) {
+                        throw malformed(line, from, to);
+                    }
+                }
+                default -> throw malformed(line, from, to);
+            };
+        }
+
+        private int number() {
+            peek();
+            int start = position;
+            while(position < to && (line[position] == '-'
+                || (line[position] >= '0' && line[position] <= '9'))) {
+                position++;
+            }
+            return parseInt(line, start, position, from, to);
+        }
+
+        private void skipValue() {
+            int first = peek();
+            if(first == '"') {
+                string();
+                return;
+            }
+            while(position < to && line[position] != ','
+                && line[position] != '}') {
+                if(line[position] == '{' || line[position] == '[') {
+                    throw malformed(line, from, to);
+                }
+                position++;
+            }
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+
+    private static String quoteJson(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if(c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ JSON ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    private static String decode(byte[] bytes, int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a decimal int straight from ASCII digits.
+     */
+    private static int parseInt(byte[] bytes, int from, int to,
+        int lineFrom, int lineTo) {
+        boolean negative = from < to && bytes[from] == '-';
+        int position = negative ? from + 1 : from;
+        if(position == to || to - position > 10) {
+            throw malformed(bytes, lineFrom, lineTo);
+        }
+        long value = 0;
+        for (; position < to; position++) {
+            int digit = bytes[position] - '0';
+            if(digit < 0 || digit > 9) {
+                throw malformed(bytes, lineFrom, lineTo);
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw malformed(bytes, lineFrom, lineTo);
+        }
+        return (int) value;
+    }
+
+    private static IllegalStateException malformed(byte[] line, int from,
+        int to) {
+        return new IllegalStateException(
+            "Malformed actor line: " + decode(line, from, to));
+    }
+}
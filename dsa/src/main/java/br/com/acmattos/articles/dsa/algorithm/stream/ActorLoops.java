@@ -0,0 +1,327 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The {@code StreamExamples} queries written as plain loops, with the same
+ * results, in the same order. They are the baseline the stream pipelines
+ * are measured against: no lambdas, no boxing of ages and no intermediate
+ * collections besides the ones the results are made of.
+ */
+public final class ActorLoops {
+    private static final Comparator<Actor> BY_FIRST_NAME_AND_LAST_NAME =
+        new Comparator<>() {
+            @Override
+            public int compare(Actor a, Actor b) {
+                int byFirstName = a.firstName().compareTo(b.firstName());
+                return byFirstName != 0
+                    ? byFirstName : a.lastName().compareTo(b.lastName());
+            }
+        };
+
+    private ActorLoops() {
+    }
+
+    /**
+     * Returns the first occurrence of every distinct actor, in encounter
+     * order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the distinct actors.
+     */
+    public static Collection<Actor> getDistinctActors(Collection<Actor> actors) {
+        return new ArrayList<>(new LinkedHashSet<>(actors));
+    }
+
+    /**
+     * Returns the number of actors.
+     * Time Complexity: O(1).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of actors.
+     */
+    public static long countActors(Collection<Actor> actors) {
+        return actors.size();
+    }
+
+    /**
+     * Returns the number of distinct actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of distinct actors.
+     */
+    public static long countDistinctActors(Collection<Actor> actors) {
+        return new HashSet<>(actors).size();
+    }
+
+    /**
+     * Returns the oldest actor; the first one met among the oldest, as
+     * {@code Stream.max} does.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the oldest actor, or empty if there are no actors.
+     */
+    public static Optional<Actor> getOldestActor(Collection<Actor> actors) {
+        Actor oldest = null;
+        for (Actor actor : actors) {
+            if(oldest == null || actor.age() > oldest.age()) {
+                oldest = actor;
+            }
+        }
+        return Optional.ofNullable(oldest);
+    }
+
+    /**
+     * Returns the youngest actor; the first one met among the youngest, as
+     * {@code Stream.min} does.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the youngest actor, or empty if there are no actors.
+     */
+    public static Optional<Actor> getYoungestActor(Collection<Actor> actors) {
+        Actor youngest = null;
+        for (Actor actor : actors) {
+            if(youngest == null || actor.age() < youngest.age()) {
+                youngest = actor;
+            }
+        }
+        return Optional.ofNullable(youngest);
+    }
+
+    /**
+     * Returns the average age of the actors, summed as a {@code long}.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the average age, or zero if there are no actors.
+     */
+    public static double getAverageAgeOfAllActors(Collection<Actor> actors) {
+        long sum = 0;
+        for (Actor actor : actors) {
+            sum += actor.age();
+        }
+        return actors.isEmpty() ? 0 : (double) sum / actors.size();
+    }
+
+    /**
+     * Returns the average age of the distinct actors, summed while they
+     * are first met.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the average age, or zero if there are no actors.
+     */
+    public static double getAverageAgeOfDistinctActors(Collection<Actor> actors) {
+        Set<Actor> seen = new HashSet<>();
+        long sum = 0;
+        for (Actor actor : actors) {
+            if(seen.add(actor)) {
+                sum += actor.age();
+            }
+        }
+        return seen.isEmpty() ? 0 : (double) sum / seen.size();
+    }
+
+    /**
+     * Returns the actors whose first name starts with the given prefix, in
+     * encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @param prefix the prefix of the first names.
+     * @return the matching actors.
+     */
+    public static Collection<Actor> filterActorsByFirstNameStartingWith(
+        Collection<Actor> actors, String prefix) {
+        List<Actor> matches = new ArrayList<>();
+        for (Actor actor : actors) {
+            if(actor.firstName().startsWith(prefix)) {
+                matches.add(actor);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, ties kept
+     * in encounter order.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @return the sorted actors.
+     */
+    public static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc(
+        Collection<Actor> actors) {
+        List<Actor> sorted = new ArrayList<>(actors);
+        sorted.sort(BY_FIRST_NAME_AND_LAST_NAME);
+        return sorted;
+    }
+
+    /**
+     * Returns the first {@code maxSize} actors sorted by first name and then
+     * last name.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @param maxSize the maximum number of actors to be returned.
+     * @return the first sorted actors.
+     * @throws IllegalStateException if {@code maxSize} is bellow zero.
+     */
+    public static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+        Collection<Actor> actors, int maxSize) {
+        checkNumberOfActors(maxSize);
+        List<Actor> sorted = new ArrayList<>(actors);
+        sorted.sort(BY_FIRST_NAME_AND_LAST_NAME);
+        return new ArrayList<>(sorted.subList(0, Math.min(maxSize, sorted.size())));
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, skipping
+     * the first {@code n} ones.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @param n the number of actors to be skipped.
+     * @return the sorted actors after the first {@code n} ones.
+     * @throws IllegalStateException if {@code n} is bellow zero.
+     */
+    public static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+        Collection<Actor> actors, int n) {
+        checkNumberOfActors(n);
+        List<Actor> sorted = new ArrayList<>(actors);
+        sorted.sort(BY_FIRST_NAME_AND_LAST_NAME);
+        return new ArrayList<>(sorted.subList(Math.min(n, sorted.size()),
+            sorted.size()));
+    }
+
+    private static void checkNumberOfActors(int n) {
+        if(n < 0) {
+            throw new IllegalStateException(
+                "The number of actors can't be less than zero!");
+        }
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in encounter
+     * order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public static Collection<Actor> getActorsWithAgeGreaterThan(
+        Collection<Actor> actors, int age) {
+        Set<Actor> seen = new HashSet<>();
+        List<Actor> matches = new ArrayList<>();
+        for (Actor actor : actors) {
+            if(seen.add(actor) && actor.age() > age) {
+                matches.add(actor);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the actors of each movie, in encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the actors of every movie.
+     */
+    public static Map<String, List<Actor>> getActorsGroupedByMovie(
+        Collection<Actor> actors) {
+        Map<String, List<Actor>> groups = new HashMap<>();
+        for (Actor actor : actors) {
+            List<Actor> group = groups.get(actor.movie());
+            if(group == null) {
+                group = new ArrayList<>();
+                groups.put(actor.movie(), group);
+            }
+            group.add(actor);
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the number of actors of each movie. Counts are kept in
+     * {@code long[]} cells, boxed once per movie at the end.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of actors of every movie.
+     */
+    public static Map<String, Long> countActorsGroupedByMovie(
+        Collection<Actor> actors) {
+        Map<String, long[]> counts = new HashMap<>();
+        for (Actor actor : actors) {
+            long[] count = counts.get(actor.movie());
+            if(count == null) {
+                count = new long[1];
+                counts.put(actor.movie(), count);
+            }
+            count[0]++;
+        }
+        Map<String, Long> groups = new HashMap<>();
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            groups.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the movie of every distinct actor, in encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the movies of the distinct actors.
+     */
+    public static Collection<String> getMoviesFromActors(Collection<Actor> actors) {
+        Set<Actor> seen = new HashSet<>();
+        List<String> movies = new ArrayList<>();
+        for (Actor actor : actors) {
+            if(seen.add(actor)) {
+                movies.add(actor.movie());
+            }
+        }
+        return movies;
+    }
+
+    /**
+     * Returns the full names of the distinct actors sorted by first name and
+     * then last name, separated by commas.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @return the full names of the actors.
+     */
+    public static String getActorsFullNames(Collection<Actor> actors) {
+        List<Actor> sorted = new ArrayList<>(actors);
+        sorted.sort(BY_FIRST_NAME_AND_LAST_NAME);
+        Set<Actor> seen = new HashSet<>();
+        StringBuilder names = new StringBuilder();
+        for (Actor actor : sorted) {
+            if(seen.add(actor)) {
+                if(seen.size() > 1) {
+                    names.append(", ");
+                }
+                names.append(actor.firstName()).append(' ')
+                    .append(actor.lastName());
+            }
+        }
+        return names.toString();
+    }
+}
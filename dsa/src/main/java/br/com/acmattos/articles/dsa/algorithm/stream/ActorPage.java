@@ -0,0 +1,14 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of actors read from an {@code ActorSortedIndex}.
+ *
+ * @param actors the actors of this page, in index order.
+ * @param next the cursor to read the following page from, empty if this is
+ *             the last page.
+ */
+public record ActorPage(List<Actor> actors, Optional<ActorCursor> next) {
+}
@@ -0,0 +1,336 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@code StreamExamples} queries, runnable on sequential or parallel
+ * streams. Both modes return the same results, in the same order: the
+ * parallel mode only swaps order-insensitive steps for cheaper ones (e.g.,
+ * unordered distinct counts, concurrent group counting).
+ */
+public final class ActorQueries {
+    /** Runs every query on a sequential stream. */
+    public static final ActorQueries SEQUENTIAL = new ActorQueries(false);
+    /** Runs every query on a parallel stream. */
+    public static final ActorQueries PARALLEL = new ActorQueries(true);
+
+    private static final Comparator<Actor> BY_FIRST_NAME_AND_LAST_NAME =
+        Comparator.comparing(Actor::firstName).thenComparing(Actor::lastName);
+    private final boolean parallel;
+
+    private ActorQueries(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns {@code true} if this mode runs the queries on parallel streams.
+     *
+     * @return {@code true} if this is the parallel mode.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private Stream<Actor> stream(Collection<Actor> actors) {
+        return parallel ? actors.parallelStream() : actors.stream();
+    }
+
+    /**
+     * Distinct counts don't depend on which duplicate is kept, so the
+     * parallel mode drops the encounter order and lets threads share a
+     * concurrent set.
+     */
+    private Stream<Actor> distinctUnordered(Collection<Actor> actors) {
+        return parallel
+            ? actors.parallelStream().unordered().distinct()
+            : actors.stream().distinct();
+    }
+
+    /**
+     * Returns the first occurrence of every distinct actor, in encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the distinct actors.
+     */
+    public Collection<Actor> getDistinctActors(Collection<Actor> actors) {
+        return stream(actors)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of actors.
+     */
+    public long countActors(Collection<Actor> actors) {
+        return stream(actors)
+            .count();
+    }
+
+    /**
+     * Returns the number of distinct actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of distinct actors.
+     */
+    public long countDistinctActors(Collection<Actor> actors) {
+        return distinctUnordered(actors)
+            .count();
+    }
+
+    /**
+     * Estimates {@link #countDistinctActors(Collection)} in 16 KB, within
+     * about 1%, whatever the number of actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the estimated number of distinct actors.
+     */
+    public long countDistinctActorsApproximately(Collection<Actor> actors) {
+        return stream(actors)
+            .collect(ActorDistinct.countingDistinctApproximately(14));
+    }
+
+    /**
+     * Returns the oldest actor; on ties, the first one of the oldest.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the oldest actor, or empty if there are no actors.
+     */
+    public Optional<Actor> getOldestActor(Collection<Actor> actors) {
+        return stream(actors)
+            .max(Comparator.comparingInt(Actor::age));
+    }
+
+    /**
+     * Returns the youngest actor; on ties, the first one of the youngest.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the youngest actor, or empty if there are no actors.
+     */
+    public Optional<Actor> getYoungestActor(Collection<Actor> actors) {
+        return stream(actors)
+            .min(Comparator.comparingInt(Actor::age));
+    }
+
+    /**
+     * Returns the average age of the actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the average age, or zero if there are no actors.
+     */
+    public double getAverageAgeOfAllActors(Collection<Actor> actors) {
+        return stream(actors)
+            .collect(Collectors.averagingInt(Actor::age));
+    }
+
+    /**
+     * Returns the average age of the distinct actors.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the average age, or zero if there are no actors.
+     */
+    public double getAverageAgeOfDistinctActors(Collection<Actor> actors) {
+        return distinctUnordered(actors)
+            .collect(Collectors.averagingInt(Actor::age));
+    }
+
+    /**
+     * Returns the actors whose first name starts with the given prefix, in
+     * encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @param prefix the prefix of the first names.
+     * @return the matching actors.
+     */
+    public Collection<Actor> filterActorsByFirstNameStartingWith(
+        Collection<Actor> actors, String prefix) {
+        return stream(actors)
+            .filter(actor -> actor.firstName().startsWith(prefix))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, ties kept in
+     * encounter order.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @return the sorted actors.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc(
+        Collection<Actor> actors) {
+        return stream(actors)
+            .sorted(BY_FIRST_NAME_AND_LAST_NAME)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the first {@code maxSize} actors sorted by first name and then
+     * last name, selected without sorting every actor.
+     * Time Complexity: O(n log k), where k is {@code maxSize}.
+     *
+     * @param actors the actors to be queried.
+     * @param maxSize the maximum number of actors to be returned.
+     * @return the first sorted actors.
+     * @throws IllegalStateException if {@code maxSize} is bellow zero.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+        Collection<Actor> actors, int maxSize) {
+        checkNumberOfActors(maxSize);
+        return stream(actors)
+            .collect(ActorCollectors.topK(maxSize, BY_FIRST_NAME_AND_LAST_NAME));
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, skipping
+     * the first {@code n} ones.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @param n the number of actors to be skipped.
+     * @return the sorted actors after the first {@code n} ones.
+     * @throws IllegalStateException if {@code n} is bellow zero.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+        Collection<Actor> actors, int n) {
+        checkNumberOfActors(n);
+        return stream(actors)
+            .sorted(BY_FIRST_NAME_AND_LAST_NAME)
+            .skip(n)
+            .collect(Collectors.toList());
+    }
+
+    private static void checkNumberOfActors(int n) {
+        if(n < 0) {
+            throw new IllegalStateException(
+                "The number of actors can't be less than zero!");
+        }
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in encounter
+     * order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public Collection<Actor> getActorsWithAgeGreaterThan(
+        Collection<Actor> actors, int age) {
+        return stream(actors)
+            .distinct()
+            .filter(actor -> actor.age() > age)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the actors grouped by movie, in encounter order within each
+     * movie.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the actors of every movie.
+     */
+    public Map<String, List<Actor>> getActorsGroupedByMovie(
+        Collection<Actor> actors) {
+        return stream(actors)
+            .collect(Collectors.groupingBy(Actor::movie));
+    }
+
+    /**
+     * Returns the number of actors of each movie.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the number of actors of every movie.
+     */
+    public Map<String, Long> countActorsGroupedByMovie(Collection<Actor> actors) {
+        if(parallel) {
+            return actors.parallelStream()
+                .collect(ActorCollectors.groupingByConcurrentCounting(Actor::movie));
+        }
+        return actors.stream()
+            .collect(Collectors.groupingBy(Actor::movie, Collectors.counting()));
+    }
+
+    /**
+     * Returns the movie of every distinct actor, in encounter order.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @return the movies of the distinct actors.
+     */
+    public Collection<String> getMoviesFromActors(Collection<Actor> actors) {
+        return stream(actors)
+            .distinct()
+            .map(Actor::movie)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the full names of the distinct actors sorted by first name and
+     * then last name, separated by commas.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be queried.
+     * @return the full names of the actors.
+     */
+    public String getActorsFullNames(Collection<Actor> actors) {
+        return fullNames(actors)
+            .collect(Joiners.joining(", "));
+    }
+
+    /**
+     * Writes the same report as {@link #getActorsFullNames(Collection)} to
+     * the writer, without building it in memory. Sorting and distinct still
+     * run in this mode; only the writing is done one name at a time.
+     *
+     * @param actors the actors to be reported.
+     * @param out the writer the report is written to.
+     * @return the number of chars written.
+     * @throws java.io.UncheckedIOException if the writer fails.
+     */
+    public long writeActorsFullNames(Collection<Actor> actors, Writer out) {
+        return Joiners.joinTo(fullNames(actors), ", ", out);
+    }
+
+    private Stream<String> fullNames(Collection<Actor> actors) {
+        return stream(actors)
+            .sorted(BY_FIRST_NAME_AND_LAST_NAME)
+            .distinct()
+            .map(actor -> actor.firstName() + " " + actor.lastName());
+    }
+
+    /**
+     * Computes the given aggregates over the actors in a single pass.
+     * Time Complexity: O(n).
+     *
+     * @param actors the actors to be queried.
+     * @param aggregates the aggregates to be computed.
+     * @return the summary holding the aggregates.
+     */
+    public ActorSummary summarizeActors(Collection<Actor> actors,
+        ActorAggregate... aggregates) {
+        return stream(actors)
+            .collect(ActorCollectors.summarizing(aggregates));
+    }
+}
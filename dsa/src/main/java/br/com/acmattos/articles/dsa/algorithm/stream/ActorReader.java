@@ -0,0 +1,279 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming reader of {@code Actor}s from text files holding one actor per
+ * line (see {@code ActorFormat}).
+ * <p>
+ * The file is read through a {@code FileChannel} in fixed-size chunks, so
+ * its size is not bound by the heap, and actors are parsed lazily as the
+ * stream is consumed. The stream can be split on line boundaries: a split
+ * picks the middle of the remaining byte range and moves forward to the
+ * next line start, so every thread of a parallel stream reads and parses
+ * its own part of the file with positional reads on the shared channel.
+ * <p>
+ * Chunked reads were preferred to memory mapping: a mapping is limited to
+ * 2 GB, and it is only released when the buffer is garbage collected.
+ */
+public final class ActorReader {
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long MIN_SPLIT_SIZE = 1 << 20;
+
+    private ActorReader() {
+    }
+
+    /**
+     * Returns a lazy, sequential stream of the actors of the given file, in
+     * file order. Call {@code parallel()} on it to parse chunks of the file in
+     * parallel. The stream must be closed to release the file.
+     *
+     * @param file the file to be read.
+     * @param format the format of the file.
+     * @return a stream of the actors of the file.
+     * @throws UncheckedIOException if the file can't be opened, or later read.
+     * @throws IllegalStateException when a malformed line is reached.
+     */
+    public static Stream<Actor> read(Path file, ActorFormat format) {
+        return read(file, format, MIN_SPLIT_SIZE);
+    }
+
+    /**
+     * Returns the same stream as {@link #read(Path, ActorFormat)}, with the
+     * text fields of every actor replaced by the instances held by the given
+     * dictionary. Actors kept in memory then share a single copy of each
+     * distinct first name, last name, gender and movie, and grouping them by
+     * one of those fields mostly compares identical references. The
+     * dictionary may be shared by parallel streams and across files.
+     *
+     * @param file the file to be read.
+     * @param format the format of the file.
+     * @param strings the dictionary the text fields are interned in.
+     * @return a stream of the actors of the file.
+     * @throws UncheckedIOException if the file can't be opened, or later read.
+     * @throws IllegalStateException when a malformed line is reached.
+     */
+    public static Stream<Actor> read(Path file, ActorFormat format,
+        StringDictionary strings) {
+        return read(file, format).map(actor -> new Actor(
+            strings.canonical(actor.firstName()),
+            strings.canonical(actor.lastName()),
+            strings.canonical(actor.gender()),
+            strings.canonical(actor.movie()),
+            actor.age()));
+    }
+
+    static Stream<Actor> read(Path file, ActorFormat format, long minSplitSize) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                LineSpliterator spliterator = new LineSpliterator(channel,
+                    format, 0, channel.size(), minSplitSize);
+                return StreamSupport.stream(spliterator, false)
+                    .onClose(() -> close(channel));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads every actor of the given file straight into a columnar table, in
+     * file order, without keeping the {@code Actor} records. On parallel
+     * reads the text fields are also interned in parallel, in the thread-safe
+     * dictionaries of the table, and only the encoded rows are appended in
+     * file order.
+     *
+     * @param file the file to be read.
+     * @param format the format of the file.
+     * @param parallel {@code true} to parse chunks of the file in parallel.
+     * @return a table holding the actors of the file.
+     * @throws UncheckedIOException if the file can't be read.
+     * @throws IllegalStateException if a line is malformed.
+     */
+    public static ActorTable readTable(Path file, ActorFormat format,
+        boolean parallel) {
+        ActorTable table = new ActorTable();
+        try (Stream<Actor> actors = read(file, format)) {
+            (parallel ? actors.parallel() : actors)
+                .map(table::encode)
+                .forEachOrdered(table::append);
+        }
+        return table;
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Spliterator over the lines starting in the byte range
+     * {@code [start, end)} of a file, where {@code start} is always the start
+     * of a line and {@code end} either the start of a line or the end of the
+     * file.
+     */
+    private static final class LineSpliterator implements Spliterator<Actor> {
+        private final FileChannel channel;
+        private final ActorFormat format;
+        private final long minSplitSize;
+        private long start;
+        private long end;
+        private ByteBuffer buffer;
+        private long readPosition;
+
+        LineSpliterator(FileChannel channel, ActorFormat format, long start,
+            long end, long minSplitSize) {
+            this.channel = channel;
+            this.format = format;
+            this.start = start;
+            this.end = end;
+            this.minSplitSize = minSplitSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Actor> action) {
+            if(buffer == null) {
+                buffer = ByteBuffer.allocate(CHUNK_SIZE).flip();
+                readPosition = start;
+                if(start == 0 && format.header() != null) {
+                    nextLine(false);
+                }
+            }
+            while(buffer.hasRemaining() || readPosition < end) {
+                Actor actor = nextLine(true);
+                if(actor != null) {
+                    action.accept(actor);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Consumes the next line, refilling the buffer as needed.
+         *
+         * @param parse {@code false} to skip the line without parsing it.
+         * @return the actor of the line, or {@code null} for a blank or
+         *         skipped line, or once the range is over.
+         */
+        private Actor nextLine(boolean parse) {
+            while(true) {
+                byte[] bytes = buffer.array();
+                int from = buffer.position();
+                int limit = buffer.limit();
+                int newline = from;
+                while(newline < limit && bytes[newline] != '\n') {
+                    newline++;
+                }
+                boolean complete = newline < limit;
+                if(complete || readPosition >= end) {
+                    buffer.position(complete ? newline + 1 : limit);
+                    int to = newline > from && bytes[newline - 1] == '\r'
+                        ? newline - 1 : newline;
+                    return parse && to > from
+                        ? format.parse(bytes, from, to) : null;
+                }
+                fill();
+            }
+        }
+
+        /**
+         * Keeps the partial line at the end of the buffer and reads the next
+         * chunk of the range after it, growing the buffer if a single line
+         * fills it.
+         */
+        private void fill() {
+            buffer.compact();
+            if(!buffer.hasRemaining()) {
+                buffer = ByteBuffer.wrap(
+                    Arrays.copyOf(buffer.array(), buffer.capacity() * 2),
+                    buffer.capacity(), buffer.capacity());
+            }
+            int space = (int) Math.min(buffer.remaining(), end - readPosition);
+            ByteBuffer window = buffer.slice(buffer.position(), space);
+            try {
+                while(window.hasRemaining()) {
+                    int read = channel.read(window, readPosition);
+                    if(read < 0) {
+                        end = readPosition;
+                        break;
+                    }
+                    readPosition += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.position(buffer.position() + window.position()).flip();
+        }
+
+        /**
+         * Splits off the first half of the remaining range, cut after the
+         * first line break past its middle. Only ranges not being read yet are
+         * split.
+         */
+        @Override
+        public Spliterator<Actor> trySplit() {
+            if(buffer != null || end - start < 2 * minSplitSize) {
+                return null;
+            }
+            long cut = nextLineStart(start + (end - start) / 2);
+            if(cut <= start || cut >= end) {
+                return null;
+            }
+            LineSpliterator prefix =
+                new LineSpliterator(channel, format, start, cut, minSplitSize);
+            start = cut;
+            return prefix;
+        }
+
+        private long nextLineStart(long from) {
+            ByteBuffer probe = ByteBuffer.allocate(4096);
+            long position = from;
+            try {
+                while(position < end) {
+                    probe.clear();
+                    int read = channel.read(probe, position);
+                    if(read < 0) {
+                        return end;
+                    }
+                    for (int i = 0; i < read; i++) {
+                        if(probe.get(i) == '\n') {
+                            return position + i + 1;
+                        }
+                    }
+                    position += read;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return end;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.max(1, (end - start) / 64);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Actors stored off the heap, as binary rows in direct memory.
+ * <p>
+ * A row is the age as a 4-byte int, the byte length of each text field as
+ * a 2-byte unsigned int, then the UTF-8 bytes of the first name, last name,
+ * gender and movie:
+ * <pre>
+ * | age (4) | 4 lengths (2 each) | firstName | lastName | gender | movie |
+ * </pre>
+ * Rows are appended to fixed-size pages of direct memory and never straddle
+ * two pages. The only per-row data on the heap is the offset of each row, in
+ * a {@code long[]}: millions of actors cost the GC a single array, instead
+ * of five objects each.
+ * <p>
+ * Rows are read through a {@link Row} flyweight, which decodes only the
+ * fields asked for, so scanning ages allocates nothing. {@link #stream()}
+ * decodes rows back into {@code Actor}s lazily, for the stream queries.
+ * Pages are released by the GC once this object is unreachable.
+ */
+public class ActorRows {
+    private static final int DEFAULT_PAGE_SIZE = 1 << 20;
+    private static final int HEADER_SIZE = Integer.BYTES + 4 * Short.BYTES;
+    private static final int MAX_FIELD_LENGTH = 0xFFFF;
+
+    private final int pageSize;
+    private ByteBuffer[] pages = new ByteBuffer[1];
+    private int pageCount;
+    private int position;
+    private long[] offsets = new long[10];
+    private int size;
+
+    /**
+     * Construct an empty set of rows, in pages of 1 MiB.
+     */
+    public ActorRows() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Construct an empty set of rows, in pages of the given size.
+     * @param pageSize the size of a page, in bytes.
+     * @throws IllegalStateException if a page can't hold a row header.
+     */
+    ActorRows(int pageSize) {
+        if(pageSize < HEADER_SIZE) {
+            throw new IllegalStateException(
+                "The page size can't be less than " + HEADER_SIZE + " bytes!");
+        }
+        this.pageSize = pageSize;
+        this.position = pageSize;
+    }
+
+    /**
+     * Returns the rows of the given actors, in encounter order.
+     *
+     * @param actors the actors to be stored.
+     * @return the rows of the actors.
+     * @throws IllegalStateException if a text field is longer than 65535 bytes.
+     */
+    public static ActorRows of(Collection<Actor> actors) {
+        ActorRows rows = new ActorRows();
+        actors.forEach(rows::add);
+        return rows;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Appends the row of an actor.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param actor the actor to be stored.
+     * @throws IllegalStateException if a text field is longer than 65535
+     *         bytes, or the row doesn't fit in a page.
+     */
+    public void add(Actor actor) {
+        byte[] firstName = encode(actor.firstName());
+        byte[] lastName = encode(actor.lastName());
+        byte[] gender = encode(actor.gender());
+        byte[] movie = encode(actor.movie());
+        int length = HEADER_SIZE + firstName.length + lastName.length
+            + gender.length + movie.length;
+        if(length > pageSize) {
+            throw new IllegalStateException(
+                "The row exceeds the page size: " + length + " > " + pageSize
+                    + "!");
+        }
+        if(position + length > pageSize) {
+            if(pageCount == pages.length) {
+                pages = Arrays.copyOf(pages,
+                    pageCount + (pageCount >> 1) + 1);
+            }
+            pages[pageCount++] = ByteBuffer.allocateDirect(pageSize);
+            position = 0;
+        }
+        ByteBuffer page = pages[pageCount - 1];
+        int at = position;
+        page.putInt(at, actor.age());
+        page.putShort(at + 4, (short) firstName.length);
+        page.putShort(at + 6, (short) lastName.length);
+        page.putShort(at + 8, (short) gender.length);
+        page.putShort(at + 10, (short) movie.length);
+        at += HEADER_SIZE;
+        page.put(at, firstName);
+        at += firstName.length;
+        page.put(at, lastName);
+        at += lastName.length;
+        page.put(at, gender);
+        at += gender.length;
+        page.put(at, movie);
+        if(size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size + (size >> 1) + 1);
+        }
+        offsets[size++] = (long) (pageCount - 1) * pageSize + position;
+        position += length;
+    }
+
+    private static byte[] encode(String field) {
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        if(bytes.length > MAX_FIELD_LENGTH) {
+            throw new IllegalStateException(
+                "The field exceeds " + MAX_FIELD_LENGTH + " bytes!");
+        }
+        return bytes;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns a new flyweight, positioned at the first row, if any. A
+     * flyweight can be moved over any number of rows, and read by one thread
+     * at a time. Reading a flyweight that isn't at a row fails.
+     *
+     * @return a new flyweight over these rows.
+     */
+    public Row row() {
+        return new Row();
+    }
+
+    /**
+     * Decodes the actor at the given row.
+     * Time Complexity: O(1).
+     *
+     * @param index index of the row.
+     * @return the actor stored at the row.
+     * @throws IndexOutOfBoundsException if the index is out of range:
+     *         ({@code index < 0 || index >= size()})
+     */
+    public Actor get(int index) {
+        return new Row().moveTo(index).toActor();
+    }
+
+    /**
+     * Returns a lazy stream of the actors, decoded in row order. Rows are
+     * only read, so the stream may be parallel.
+     *
+     * @return a stream of the actors.
+     */
+    public Stream<Actor> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the ages of the actors, in row order, read straight from the
+     * rows without decoding them.
+     *
+     * @return a stream of the ages.
+     */
+    public IntStream ages() {
+        return IntStream.range(0, size).map(index -> {
+            long offset = offsets[index];
+            return pages[(int) (offset / pageSize)]
+                .getInt((int) (offset % pageSize));
+        });
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bytes of direct memory held by the pages of these rows.
+     *
+     * @return the off-heap bytes of these rows.
+     */
+    public long offHeapBytes() {
+        return (long) pageCount * pageSize;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    /**
+     * Flyweight view of a single row. Accessors read the current row in
+     * place; only the text fields asked for are decoded into strings.
+     */
+    public final class Row {
+        private ByteBuffer page;
+        private int at;
+
+        private Row() {
+            if(size > 0) {
+                moveTo(0);
+            }
+        }
+
+        /**
+         * Moves this flyweight to the given row.
+         * Time Complexity: O(1).
+         *
+         * @param index index of the row.
+         * @return this flyweight.
+         * @throws IndexOutOfBoundsException if the index is out of range:
+         *         ({@code index < 0 || index >= size()})
+         */
+        public Row moveTo(int index) {
+            if(index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(
+                    "Index out of bounds: " + index + ", size: " + size);
+            }
+            long offset = offsets[index];
+            page = pages[(int) (offset / pageSize)];
+            at = (int) (offset % pageSize);
+            return this;
+        }
+
+        /**
+         * Returns the age of the current row, without decoding any field.
+         * Time Complexity: O(1).
+         *
+         * @return the age of the actor.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public int age() {
+            return page().getInt(at);
+        }
+
+        /**
+         * Decodes the first name of the current row.
+         * Time Complexity: O(1).
+         *
+         * @return the first name of the actor.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public String firstName() {
+            return field(0);
+        }
+
+        /**
+         * Decodes the last name of the current row.
+         * Time Complexity: O(1).
+         *
+         * @return the last name of the actor.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public String lastName() {
+            return field(1);
+        }
+
+        /**
+         * Decodes the gender of the current row.
+         * Time Complexity: O(1).
+         *
+         * @return the gender of the actor.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public String gender() {
+            return field(2);
+        }
+
+        /**
+         * Decodes the movie of the current row.
+         * Time Complexity: O(1).
+         *
+         * @return the movie of the actor.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public String movie() {
+            return field(3);
+        }
+
+        /**
+         * Decodes every field of the current row into an actor.
+         * Time Complexity: O(1).
+         *
+         * @return the actor stored at the current row.
+         * @throws IllegalStateException if this flyweight isn't at a row.
+         */
+        public Actor toActor() {
+            return new Actor(firstName(), lastName(), gender(), movie(), age());
+        }
+
+        private ByteBuffer page() {
+            if(page == null) {
+                throw new IllegalStateException(
+                    "The flyweight isn't at any row!");
+            }
+            return page;
+        }
+
+        private String field(int field) {
+            ByteBuffer page = page();
+            int from = at + HEADER_SIZE;
+            for (int i = 0; i < field; i++) {
+                from += length(i);
+            }
+            byte[] bytes = new byte[length(field)];
+            page.get(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int length(int field) {
+            return Short.toUnsignedInt(page.getShort(at + 4 + field * Short.BYTES));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Actors pre-sorted by first name and then last name, ties kept in source
+ * order, for paged reads.
+ * <p>
+ * The sort is paid once, when the index is built. Pages are then read either
+ * by offset, an O(1) jump into the sorted array, or by keyset: a cursor holds
+ * the key of the last actor read, and the next page starts at the first actor
+ * after it, found by binary search. Unlike offsets, cursors stay meaningful
+ * across indexes rebuilt with more actors, since they point at a key instead
+ * of a position, as long as rebuilds only append actors to the source: the
+ * key ends with the position of the actor in the source, which breaks ties
+ * between equal names.
+ */
+public class ActorSortedIndex {
+    private static final Comparator<Actor> BY_FIRST_NAME_AND_LAST_NAME =
+        Comparator.comparing(Actor::firstName).thenComparing(Actor::lastName);
+    private final Actor[] actors;
+    private final int[] sequences;
+
+    /**
+     * Construct an index over the given actors.
+     * Time Complexity: O(n log n).
+     *
+     * @param actors the actors to be indexed.
+     */
+    public ActorSortedIndex(Collection<Actor> actors) {
+        Actor[] source = actors.toArray(new Actor[0]);
+        Integer[] order = new Integer[source.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        // Arrays.sort is stable for objects, so equal names keep source order.
+        Arrays.sort(order, (a, b) ->
+            BY_FIRST_NAME_AND_LAST_NAME.compare(source[a], source[b]));
+        this.actors = new Actor[source.length];
+        this.sequences = new int[source.length];
+        for (int i = 0; i < order.length; i++) {
+            this.actors[i] = source[order[i]];
+            this.sequences[i] = order[i];
+        }
+    }
+
+    /**
+     * Returns up to {@code pageSize} actors, skipping the first {@code offset}
+     * ones.
+     * Time Complexity: O(pageSize).
+     *
+     * @param offset the number of actors to be skipped.
+     * @param pageSize the maximum number of actors to be returned.
+     * @return the page of actors.
+     * @throws IllegalStateException if the offset is bellow zero, or the page
+     *         size is bellow one.
+     */
+    public ActorPage page(int offset, int pageSize) {
+        checkCount(offset);
+        checkPageSize(pageSize);
+        return pageFrom(Math.min(offset, actors.length), pageSize);
+    }
+
+    /**
+     * Returns up to {@code pageSize} actors following the given cursor.
+     * Time Complexity: O(log n + pageSize).
+     *
+     * @param cursor the position the page starts after.
+     * @param pageSize the maximum number of actors to be returned.
+     * @return the page of actors.
+     * @throws IllegalStateException if the page size is bellow one.
+     */
+    public ActorPage pageAfter(ActorCursor cursor, int pageSize) {
+        checkPageSize(pageSize);
+        return pageFrom(firstAfter(cursor), pageSize);
+    }
+
+    /**
+     * Returns every actor, skipping the first {@code n} ones.
+     * Time Complexity: O(n).
+     *
+     * @param n the number of actors to be skipped.
+     * @return the actors after the first {@code n} ones.
+     * @throws IllegalStateException if {@code n} is bellow zero.
+     */
+    public List<Actor> skip(int n) {
+        checkCount(n);
+        return pageFrom(Math.min(n, actors.length), actors.length).actors();
+    }
+
+    /**
+     * Returns the number of actors in this index.
+     *
+     * @return the number of actors in this index.
+     */
+    public int size() {
+        return actors.length;
+    }
+
+    private ActorPage pageFrom(int from, int pageSize) {
+        int to = (int) Math.min(actors.length, (long) from + pageSize);
+        List<Actor> page = new ArrayList<>(Arrays.asList(actors).subList(from, to));
+        Optional<ActorCursor> next = to < actors.length
+            ? Optional.of(cursorOf(to - 1)) : Optional.empty();
+        return new ActorPage(page, next);
+    }
+
+    private ActorCursor cursorOf(int position) {
+        Actor actor = actors[position];
+        return new ActorCursor(actor.firstName(), actor.lastName(),
+            sequences[position]);
+    }
+
+    /**
+     * Binary search for the first position whose key is greater than the
+     * cursor.
+     */
+    private int firstAfter(ActorCursor cursor) {
+        int low = 0;
+        int high = actors.length;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(compare(middle, cursor) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int position, ActorCursor cursor) {
+        Actor actor = actors[position];
+        int result = actor.firstName().compareTo(cursor.firstName());
+        if(result == 0) {
+            result = actor.lastName().compareTo(cursor.lastName());
+        }
+        return result != 0
+            ? result : Integer.compare(sequences[position], cursor.sequence());
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if(pageSize < 1) {
+            throw new IllegalStateException(
+                "The page size can't be less than one!");
+        }
+    }
+
+    private static void checkCount(int count) {
+        if(count < 0) {
+            throw new IllegalStateException(
+                "The number of actors can't be less than zero!");
+        }
+    }
+}
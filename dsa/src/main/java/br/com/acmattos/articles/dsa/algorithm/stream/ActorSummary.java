@@ -0,0 +1,214 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Result of a single pass computing a set of {@code ActorAggregate}s. Only
+ * the requested aggregates can be read.
+ */
+public final class ActorSummary {
+    private final Set<ActorAggregate> aggregates;
+    private final long count;
+    private final long countDistinct;
+    private final Actor oldest;
+    private final Actor youngest;
+    private final double averageAge;
+    private final double averageAgeOfDistinct;
+    private final Map<String, Long> countByMovie;
+
+    private ActorSummary(Accumulator accumulator) {
+        this.aggregates = accumulator.aggregates;
+        this.count = accumulator.count;
+        this.countDistinct = accumulator.distinct.size();
+        this.oldest = accumulator.oldest;
+        this.youngest = accumulator.youngest;
+        this.averageAge = accumulator.count == 0
+            ? 0 : (double) accumulator.ageSum / accumulator.count;
+        long distinctAgeSum = 0;
+        for (Actor actor : accumulator.distinct) {
+            distinctAgeSum += actor.age();
+        }
+        this.averageAgeOfDistinct = countDistinct == 0
+            ? 0 : (double) distinctAgeSum / countDistinct;
+        Map<String, Long> counts = new HashMap<>();
+        accumulator.movies.forEach((movie, cell) -> counts.put(movie, cell[0]));
+        this.countByMovie = Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the number of actors.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public long count() {
+        check(ActorAggregate.COUNT);
+        return count;
+    }
+
+    /**
+     * Returns the number of distinct actors.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public long countDistinct() {
+        check(ActorAggregate.COUNT_DISTINCT);
+        return countDistinct;
+    }
+
+    /**
+     * Returns the oldest actor, the first one on ties.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public Optional<Actor> oldest() {
+        check(ActorAggregate.OLDEST);
+        return Optional.ofNullable(oldest);
+    }
+
+    /**
+     * Returns the youngest actor, the first one on ties.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public Optional<Actor> youngest() {
+        check(ActorAggregate.YOUNGEST);
+        return Optional.ofNullable(youngest);
+    }
+
+    /**
+     * Returns the average age, or zero if there are no actors.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public double averageAge() {
+        check(ActorAggregate.AVERAGE_AGE);
+        return averageAge;
+    }
+
+    /**
+     * Returns the average age of the distinct actors, or zero if there are no
+     * actors.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public double averageAgeOfDistinct() {
+        check(ActorAggregate.AVERAGE_AGE_OF_DISTINCT);
+        return averageAgeOfDistinct;
+    }
+
+    /**
+     * Returns the number of actors per movie.
+     *
+     * @throws IllegalStateException if the aggregate was not requested.
+     */
+    public Map<String, Long> countByMovie() {
+        check(ActorAggregate.COUNT_BY_MOVIE);
+        return countByMovie;
+    }
+
+    private void check(ActorAggregate aggregate) {
+        if(!aggregates.contains(aggregate)) {
+            throw new IllegalStateException(
+                "The aggregate " + aggregate + " was not requested!");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ActorSummary=[");
+        for (ActorAggregate aggregate : aggregates) {
+            Object value = switch (aggregate) {
+                case COUNT -> count;
+                case COUNT_DISTINCT -> countDistinct;
+                case OLDEST -> oldest();
+                case YOUNGEST -> youngest();
+                case AVERAGE_AGE -> averageAge;
+                case AVERAGE_AGE_OF_DISTINCT -> averageAgeOfDistinct;
+                case COUNT_BY_MOVIE -> countByMovie;
+            };
+            sb.append(aggregate).append(": ").append(value).append(", ");
+        }
+        if(!aggregates.isEmpty()) {
+            return sb.substring(0, sb.lastIndexOf(", ")) + "]";
+        }
+        return sb + "]";
+    }
+
+    /**
+     * Mergeable state of a summary being computed. Each aggregate only pays
+     * for its own bookkeeping: distinct actors are only hashed when a
+     * distinct aggregate is requested, and so on.
+     */
+    static final class Accumulator {
+        private final Set<ActorAggregate> aggregates;
+        private final boolean distinctRequested;
+        private final boolean oldestRequested;
+        private final boolean youngestRequested;
+        private final boolean moviesRequested;
+        private final Set<Actor> distinct = new HashSet<>();
+        private final Map<String, long[]> movies = new HashMap<>();
+        private long count;
+        private long ageSum;
+        private Actor oldest;
+        private Actor youngest;
+
+        Accumulator(Set<ActorAggregate> aggregates) {
+            this.aggregates = aggregates;
+            this.distinctRequested =
+                aggregates.contains(ActorAggregate.COUNT_DISTINCT)
+                    || aggregates.contains(ActorAggregate.AVERAGE_AGE_OF_DISTINCT);
+            this.oldestRequested = aggregates.contains(ActorAggregate.OLDEST);
+            this.youngestRequested = aggregates.contains(ActorAggregate.YOUNGEST);
+            this.moviesRequested =
+                aggregates.contains(ActorAggregate.COUNT_BY_MOVIE);
+        }
+
+        void accept(Actor actor) {
+            count++;
+            ageSum += actor.age();
+            if(distinctRequested) {
+                distinct.add(actor);
+            }
+            if(oldestRequested && (oldest == null || actor.age() > oldest.age())) {
+                oldest = actor;
+            }
+            if(youngestRequested
+                && (youngest == null || actor.age() < youngest.age())) {
+                youngest = actor;
+            }
+            if(moviesRequested) {
+                movies.computeIfAbsent(actor.movie(), movie -> new long[1])[0]++;
+            }
+        }
+
+        /**
+         * Merges the state of an accumulator that saw later actors, in
+         * encounter order, into this one.
+         */
+        Accumulator combine(Accumulator later) {
+            count += later.count;
+            ageSum += later.ageSum;
+            distinct.addAll(later.distinct);
+            if(later.oldest != null
+                && (oldest == null || later.oldest.age() > oldest.age())) {
+                oldest = later.oldest;
+            }
+            if(later.youngest != null
+                && (youngest == null || later.youngest.age() < youngest.age())) {
+                youngest = later.youngest;
+            }
+            later.movies.forEach((movie, cell) ->
+                movies.computeIfAbsent(movie, key -> new long[1])[0] += cell[0]);
+            return this;
+        }
+
+        ActorSummary finish() {
+            return new ActorSummary(this);
+        }
+    }
+}
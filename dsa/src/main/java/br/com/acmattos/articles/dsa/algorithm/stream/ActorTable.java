@@ -0,0 +1,594 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Columnar store of {@code Actor}s answering the {@code StreamExamples}
+ * queries with primitive loops.
+ * <p>
+ * Every field lives in its own array: text fields are dictionary encoded as
+ * int ids and ages are kept as plain ints. A query reads only the columns it
+ * needs, sequentially, instead of chasing a reference per record and four
+ * more per field. Predicates on text are evaluated once per distinct string
+ * and then looked up by id, and sorting by name is a counting sort over the
+ * dictionary ranks. {@code Actor} records are only created for the rows a
+ * query returns.
+ * <p>
+ * In the complexities below, n is the number of rows and d the number of
+ * distinct strings of the column involved.
+ */
+public class ActorTable {
+    private static final int DEFAULT_CAPACITY = 10;
+    private final StringDictionary firstNames = new StringDictionary();
+    private final StringDictionary lastNames = new StringDictionary();
+    private final StringDictionary genders = new StringDictionary();
+    private final StringDictionary movies = new StringDictionary();
+    private int[] firstName;
+    private int[] lastName;
+    private int[] gender;
+    private int[] movie;
+    private int[] age;
+    private int size;
+
+    /**
+     * Construct an empty actor table.
+     * Initial capacity of this table is 10 rows.
+     */
+    public ActorTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an empty actor table.
+     * @param capacity the initial capacity of this table, in rows.
+     * @throws IllegalStateException if the capacity is bellow zero.
+     */
+    public ActorTable(int capacity) {
+        if(capacity < 0) {
+            throw new IllegalStateException(
+                "The table capacity can't be less than zero!");
+        }
+        this.firstName = new int[capacity];
+        this.lastName = new int[capacity];
+        this.gender = new int[capacity];
+        this.movie = new int[capacity];
+        this.age = new int[capacity];
+    }
+
+    /**
+     * Creates a table holding the given actors, in encounter order.
+     *
+     * @param actors the actors to be stored.
+     * @return a new table holding the actors.
+     */
+    public static ActorTable of(Collection<Actor> actors) {
+        ActorTable table = new ActorTable(actors.size());
+        actors.forEach(table::add);
+        return table;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Appends an actor as the last row of this table.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param actor the actor to be added.
+     */
+    public void add(Actor actor) {
+        if(size == age.length) {
+            resize();
+        }
+        firstName[size] = firstNames.intern(actor.firstName());
+        lastName[size] = lastNames.intern(actor.lastName());
+        gender[size] = genders.intern(actor.gender());
+        movie[size] = movies.intern(actor.movie());
+        age[size] = actor.age();
+        size++;
+    }
+
+    /**
+     * Encodes an actor as a row of this table, interning its text fields,
+     * without appending it. Safe to call from many threads, since the
+     * dictionaries are.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param actor the actor to be encoded.
+     * @return the row: the first name, last name, gender and movie ids,
+     *         then the age.
+     */
+    int[] encode(Actor actor) {
+        return new int[] {firstNames.intern(actor.firstName()),
+            lastNames.intern(actor.lastName()), genders.intern(actor.gender()),
+            movies.intern(actor.movie()), actor.age()};
+    }
+
+    /**
+     * Appends a row encoded by {@link #encode} as the last row of this table.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param row the encoded row.
+     */
+    void append(int[] row) {
+        if(size == age.length) {
+            resize();
+        }
+        firstName[size] = row[0];
+        lastName[size] = row[1];
+        gender[size] = row[2];
+        movie[size] = row[3];
+        age[size] = row[4];
+        size++;
+    }
+
+    /**
+     * Grows every column by half (plus one, so an empty table can grow too).
+     * Time Complexity: O(n).
+     */
+    private void resize() {
+        int capacity = size + (size >> 1) + 1;
+        firstName = Arrays.copyOf(firstName, capacity);
+        lastName = Arrays.copyOf(lastName, capacity);
+        gender = Arrays.copyOf(gender, capacity);
+        movie = Arrays.copyOf(movie, capacity);
+        age = Arrays.copyOf(age, capacity);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Materializes the actor stored at the given row.
+     * Time Complexity: O(1).
+     *
+     * @param row the row of the actor.
+     * @return the actor stored at the row.
+     * @throws IndexOutOfBoundsException if the row is out of range:
+     *         ({@code row < 0 || row >= size()})
+     */
+    public Actor get(int row) {
+        if(row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index out of bounds: " + row + ", size: " + size);
+        }
+        return new Actor(firstNames.get(firstName[row]),
+            lastNames.get(lastName[row]), genders.get(gender[row]),
+            movies.get(movie[row]), age[row]);
+    }
+
+    /**
+     * Returns a sequential stream materializing the actors of this table, in
+     * row order.
+     *
+     * @return a stream over the actors of this table.
+     */
+    public Stream<Actor> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the number of rows in this table.
+     *
+     * @return the number of rows in this table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of actors.
+     * Time Complexity: O(1).
+     *
+     * @return the number of actors.
+     */
+    public long countActors() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct actors.
+     * Time Complexity: O(n).
+     *
+     * @return the number of distinct actors.
+     */
+    public long countDistinctActors() {
+        return distinctRows().length;
+    }
+
+    /**
+     * Returns the first occurrence of every distinct actor, in row order.
+     * Time Complexity: O(n).
+     *
+     * @return the distinct actors.
+     */
+    public Collection<Actor> getDistinctActors() {
+        return actors(distinctRows(), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the oldest actor, the first one on ties.
+     * Time Complexity: O(n).
+     *
+     * @return the oldest actor, or empty if there are no actors.
+     */
+    public Optional<Actor> getOldestActor() {
+        if(size == 0) {
+            return Optional.empty();
+        }
+        int oldest = 0;
+        for (int row = 1; row < size; row++) {
+            if(age[row] > age[oldest]) {
+                oldest = row;
+            }
+        }
+        return Optional.of(get(oldest));
+    }
+
+    /**
+     * Returns the youngest actor, the first one on ties.
+     * Time Complexity: O(n).
+     *
+     * @return the youngest actor, or empty if there are no actors.
+     */
+    public Optional<Actor> getYoungestActor() {
+        if(size == 0) {
+            return Optional.empty();
+        }
+        int youngest = 0;
+        for (int row = 1; row < size; row++) {
+            if(age[row] < age[youngest]) {
+                youngest = row;
+            }
+        }
+        return Optional.of(get(youngest));
+    }
+
+    /**
+     * Returns the average age of the actors, or zero if there are none.
+     * Time Complexity: O(n).
+     *
+     * @return the average age of the actors.
+     */
+    public double getAverageAgeOfAllActors() {
+        long sum = 0;
+        for (int row = 0; row < size; row++) {
+            sum += age[row];
+        }
+        return size == 0 ? 0 : (double) sum / size;
+    }
+
+    /**
+     * Returns the average age of the distinct actors, or zero if there are
+     * none.
+     * Time Complexity: O(n).
+     *
+     * @return the average age of the distinct actors.
+     */
+    public double getAverageAgeOfDistinctActors() {
+        int[] rows = distinctRows();
+        long sum = 0;
+        for (int row : rows) {
+            sum += age[row];
+        }
+        return rows.length == 0 ? 0 : (double) sum / rows.length;
+    }
+
+    /**
+     * Returns the actors whose first name starts with the given prefix, in row
+     * order. The prefix is tested once per distinct first name.
+     * Time Complexity: O(n + d).
+     *
+     * @param prefix the prefix of the first names.
+     * @return the matching actors.
+     */
+    public Collection<Actor> filterActorsByFirstNameStartingWith(String prefix) {
+        boolean[] matches = new boolean[firstNames.size()];
+        for (int id = 0; id < matches.length; id++) {
+            matches[id] = firstNames.get(id).startsWith(prefix);
+        }
+        List<Actor> actors = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if(matches[firstName[row]]) {
+                actors.add(get(row));
+            }
+        }
+        return actors;
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name.
+     * Time Complexity: O(n + d log d).
+     *
+     * @return the sorted actors.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc() {
+        return actors(sortedRows(), 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first {@code maxSize} actors sorted by first name and then
+     * last name.
+     * Time Complexity: O(n + d log d).
+     *
+     * @param maxSize the maximum number of actors to be returned.
+     * @return the first sorted actors.
+     * @throws IllegalStateException if the number of actors is bellow zero.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+        int maxSize) {
+        checkCount(maxSize);
+        return actors(sortedRows(), 0, maxSize);
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, skipping the
+     * first {@code n} ones.
+     * Time Complexity: O(n + d log d).
+     *
+     * @param n the number of actors to be skipped.
+     * @return the sorted actors after the first {@code n} ones.
+     * @throws IllegalStateException if the number of actors is bellow zero.
+     */
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+        int n) {
+        checkCount(n);
+        return actors(sortedRows(), n, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in row order.
+     * Time Complexity: O(n).
+     *
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public Collection<Actor> getActorsWithAgeGreaterThan(int age) {
+        List<Actor> actors = new ArrayList<>();
+        for (int row : distinctRows()) {
+            if(this.age[row] > age) {
+                actors.add(get(row));
+            }
+        }
+        return actors;
+    }
+
+    /**
+     * Returns the actors grouped by movie, in row order within each movie.
+     * Time Complexity: O(n).
+     *
+     * @return the actors of every movie.
+     */
+    public Map<String, List<Actor>> getActorsGroupedByMovie() {
+        List<List<Actor>> groups = new ArrayList<>(movies.size());
+        for (int id = 0; id < movies.size(); id++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int row = 0; row < size; row++) {
+            groups.get(movie[row]).add(get(row));
+        }
+        Map<String, List<Actor>> grouped = new HashMap<>();
+        for (int id = 0; id < groups.size(); id++) {
+            if(!groups.get(id).isEmpty()) {
+                grouped.put(movies.get(id), groups.get(id));
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Returns the number of actors of each movie.
+     * Time Complexity: O(n).
+     *
+     * @return the number of actors of every movie.
+     */
+    public Map<String, Long> countActorsGroupedByMovie() {
+        long[] counts = new long[movies.size()];
+        for (int row = 0; row < size; row++) {
+            counts[movie[row]]++;
+        }
+        Map<String, Long> grouped = new HashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            if(counts[id] > 0) {
+                grouped.put(movies.get(id), counts[id]);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Returns the movie of every distinct actor, in row order.
+     * Time Complexity: O(n).
+     *
+     * @return the movies of the distinct actors.
+     */
+    public Collection<String> getMoviesFromActors() {
+        List<String> titles = new ArrayList<>();
+        for (int row : distinctRows()) {
+            titles.add(movies.get(movie[row]));
+        }
+        return titles;
+    }
+
+    /**
+     * Returns the full names of the distinct actors sorted by first name and
+     * then last name, separated by commas.
+     * Time Complexity: O(n + d log d).
+     *
+     * @return the full names of the actors.
+     */
+    public String getActorsFullNames() {
+        boolean[] first = new boolean[size];
+        for (int row : distinctRows()) {
+            first[row] = true;
+        }
+        StringBuilder names = new StringBuilder();
+        for (int row : sortedRows()) {
+            if(first[row]) {
+                if(!names.isEmpty()) {
+                    names.append(", ");
+                }
+                names.append(firstNames.get(firstName[row])).append(' ')
+                    .append(lastNames.get(lastName[row]));
+            }
+        }
+        return names.toString();
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    private static void checkCount(int count) {
+        if(count < 0) {
+            throw new IllegalStateException(
+                "The number of actors can't be less than zero!");
+        }
+    }
+
+    private List<Actor> actors(int[] rows, int from, int maxSize) {
+        int to = (int) Math.min(rows.length, (long) from + maxSize);
+        List<Actor> actors = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            actors.add(get(rows[i]));
+        }
+        return actors;
+    }
+
+    /**
+     * Returns the age column itself, for batch processing: only its first
+     * {@code size()} values are rows, and it is replaced when the table grows.
+     */
+    int[] ageColumn() {
+        return age;
+    }
+
+    /**
+     * Returns the first row of every distinct actor, in row order.
+     * Time Complexity: O(n).
+     * Space Complexity: O(n).
+     */
+    int[] distinctRows() {
+        DistinctRows distinct = new DistinctRows(size);
+        int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if(distinct.add(row)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * A set of rows keeping one row per distinct actor. Rows are hashed into
+     * an open addressing table of row numbers, so no record is created to
+     * compare them, and the table doubles when it gets half full.
+     */
+    final class DistinctRows {
+        private int[] slots;
+        private int count;
+
+        /**
+         * Construct an empty set.
+         * @param expected the number of rows expected to be added.
+         */
+        DistinctRows(int expected) {
+            slots = new int[tableLength(expected)];
+            Arrays.fill(slots, -1);
+        }
+
+        /**
+         * Adds the row, unless a row of the same actor was added before.
+         * Time Complexity: O(1) expected.
+         *
+         * @param row the row to be added.
+         * @return {@code true} if it is the first row of its actor.
+         */
+        boolean add(int row) {
+            int mask = slots.length - 1;
+            int slot = hash(row) & mask;
+            while(slots[slot] >= 0) {
+                if(sameActor(slots[slot], row)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row;
+            if(++count * 2 > slots.length) {
+                grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            Arrays.fill(slots, -1);
+            int mask = slots.length - 1;
+            for (int row : old) {
+                if(row >= 0) {
+                    int slot = hash(row) & mask;
+                    while(slots[slot] >= 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = row;
+                }
+            }
+        }
+    }
+
+    private static int tableLength(int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    private int hash(int row) {
+        int hash = firstName[row];
+        hash = 31 * hash + lastName[row];
+        hash = 31 * hash + gender[row];
+        hash = 31 * hash + movie[row];
+        hash = 31 * hash + age[row];
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameActor(int a, int b) {
+        return firstName[a] == firstName[b] && lastName[a] == lastName[b]
+            && gender[a] == gender[b] && movie[a] == movie[b]
+            && age[a] == age[b];
+    }
+
+    /**
+     * Returns the rows sorted by first name and then last name, keeping row
+     * order between equal names. Two stable counting sorts over the
+     * dictionary ranks (last name first, then first name) replace the
+     * comparison sort of strings.
+     * Time Complexity: O(n + d log d), where d is the number of names.
+     * Space Complexity: O(n + d).
+     */
+    private int[] sortedRows() {
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        rows = countingSort(rows, lastName, lastNames.ranks());
+        return countingSort(rows, firstName, firstNames.ranks());
+    }
+
+    private static int[] countingSort(int[] rows, int[] column, int[] ranks) {
+        int[] starts = new int[ranks.length + 1];
+        for (int row : rows) {
+            starts[ranks[column[row]] + 1]++;
+        }
+        for (int rank = 0; rank < ranks.length; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        int[] sorted = new int[rows.length];
+        for (int row : rows) {
+            sorted[starts[ranks[column[row]]]++] = row;
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+/**
+ * Materialized view of the {@code StreamExamples} aggregates over a changing
+ * set of actors: count, distinct count, average age (of all and of distinct
+ * actors), youngest and oldest age, and the number of actors per movie.
+ * <p>
+ * Every aggregate is updated on each insertion and deletion, instead of
+ * being recomputed from every actor. Counts and sums are updated in O(1).
+ * Ages are kept in an ordered multiset (each age mapped to its number of
+ * actors), so the youngest and oldest ages are still known after the actor
+ * holding one of them is deleted: O(log a), where a is the number of
+ * distinct ages. The multiplicity of every actor is kept too, so only actors
+ * of the view can be deleted, and the distinct aggregates change only when
+ * an actor is first inserted or last deleted.
+ */
+public final class ActorView {
+    private final Map<Actor, Integer> multiplicities = new HashMap<>();
+    private final NavigableMap<Integer, Integer> ages = new TreeMap<>();
+    private final Map<String, Long> countByMovie = new HashMap<>();
+    private long count;
+    private long sumOfAges;
+    private long sumOfDistinctAges;
+
+    /**
+     * Construct an empty view.
+     */
+    public ActorView() {
+    }
+
+    /**
+     * Construct a view over the given actors.
+     * @param actors the actors to be inserted.
+     */
+    public ActorView(Collection<Actor> actors) {
+        actors.forEach(this::insert);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Inserts an actor, updating every aggregate.
+     * Time Complexity: O(log a).
+     *
+     * @param actor the actor to be inserted.
+     */
+    public void insert(Actor actor) {
+        if(multiplicities.merge(actor, 1, Integer::sum) == 1) {
+            sumOfDistinctAges += actor.age();
+        }
+        ages.merge(actor.age(), 1, Integer::sum);
+        countByMovie.merge(actor.movie(), 1L, Long::sum);
+        count++;
+        sumOfAges += actor.age();
+    }
+
+    /**
+     * Deletes one occurrence of an actor, updating every aggregate.
+     * Time Complexity: O(log a).
+     *
+     * @param actor the actor to be deleted.
+     * @return {@code true} if the actor was in this view.
+     */
+    public boolean delete(Actor actor) {
+        Integer multiplicity = multiplicities.get(actor);
+        if(multiplicity == null) {
+            return false;
+        }
+        if(multiplicity == 1) {
+            multiplicities.remove(actor);
+            sumOfDistinctAges -= actor.age();
+        } else {
+            multiplicities.put(actor, multiplicity - 1);
+        }
+        decrement(ages, actor.age());
+        countByMovie.computeIfPresent(actor.movie(),
+            (movie, actors) -> actors == 1 ? null : actors - 1);
+        count--;
+        sumOfAges -= actor.age();
+        return true;
+    }
+
+    private static void decrement(Map<Integer, Integer> multiset, int key) {
+        multiset.computeIfPresent(key, (k, n) -> n == 1 ? null : n - 1);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the number of actors in this view.
+     * Time Complexity: O(1).
+     *
+     * @return the number of actors.
+     */
+    public long countActors() {
+        return count;
+    }
+
+    /**
+     * Returns the number of distinct actors in this view.
+     * Time Complexity: O(1).
+     *
+     * @return the number of distinct actors.
+     */
+    public long countDistinctActors() {
+        return multiplicities.size();
+    }
+
+    /**
+     * Returns the average age of the actors, or zero if this view is empty.
+     * Time Complexity: O(1).
+     *
+     * @return the average age of the actors.
+     */
+    public double getAverageAgeOfAllActors() {
+        return count == 0 ? 0 : (double) sumOfAges / count;
+    }
+
+    /**
+     * Returns the average age of the distinct actors, or zero if this view
+     * is empty.
+     * Time Complexity: O(1).
+     *
+     * @return the average age of the distinct actors.
+     */
+    public double getAverageAgeOfDistinctActors() {
+        return multiplicities.isEmpty()
+            ? 0 : (double) sumOfDistinctAges / multiplicities.size();
+    }
+
+    /**
+     * Returns the age of the youngest actor.
+     * Time Complexity: O(log a).
+     *
+     * @return the youngest age, or empty if this view is empty.
+     */
+    public OptionalInt getYoungestAge() {
+        return ages.isEmpty() ? OptionalInt.empty()
+            : OptionalInt.of(ages.firstKey());
+    }
+
+    /**
+     * Returns the age of the oldest actor.
+     * Time Complexity: O(log a).
+     *
+     * @return the oldest age, or empty if this view is empty.
+     */
+    public OptionalInt getOldestAge() {
+        return ages.isEmpty() ? OptionalInt.empty()
+            : OptionalInt.of(ages.lastKey());
+    }
+
+    /**
+     * Returns the number of actors per movie, as an unmodifiable view that
+     * follows later changes.
+     * Time Complexity: O(1).
+     *
+     * @return the number of actors per movie.
+     */
+    public Map<String, Long> countActorsGroupedByMovie() {
+        return Collections.unmodifiableMap(countByMovie);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
@@ -0,0 +1,182 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch execution of the age filters and aggregates of an
+ * {@code ActorTable}.
+ * <p>
+ * Instead of evaluating a predicate per actor, the age column is processed
+ * in batches of {@value #BATCH_SIZE} rows. A filter writes the rows passing
+ * it into a selection vector, branch-free: every row is written at the next
+ * free slot, and the slot only advances if the row passes, so the outcome
+ * of the comparison is never mispredicted. Later steps read only the
+ * selected rows, and refine the selection in place. Aggregates run over the
+ * column or the selection with independent accumulators, so the additions
+ * don't wait on each other and can be vectorized by the JIT.
+ */
+public final class BatchedActorQueries {
+    static final int BATCH_SIZE = 1024;
+    private final ActorTable table;
+
+    /**
+     * Construct the batch queries of a table. The table may keep growing.
+     * @param table the table to be queried.
+     */
+    public BatchedActorQueries(ActorTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Returns the average age of the actors, or zero if there are none.
+     * Time Complexity: O(n).
+     *
+     * @return the average age of the actors.
+     */
+    public double getAverageAgeOfAllActors() {
+        int size = table.size();
+        return size == 0 ? 0 : (double) sum(table.ageColumn(), 0, size) / size;
+    }
+
+    /**
+     * Returns the number of actors, duplicates included, older than the
+     * given age.
+     * Time Complexity: O(n).
+     *
+     * @param age the age the actors must be older than.
+     * @return the number of matching actors.
+     */
+    public long countActorsWithAgeGreaterThan(int age) {
+        int[] ages = table.ageColumn();
+        int[] selection = new int[BATCH_SIZE];
+        long count = 0;
+        for (int from = 0; from < table.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, table.size());
+            count += selectGreaterThan(ages, from, to, age, selection);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average age of the actors, duplicates included, older than
+     * the given age, or zero if there are none.
+     * Time Complexity: O(n).
+     *
+     * @param age the age the actors must be older than.
+     * @return the average age of the matching actors.
+     */
+    public double getAverageAgeOfActorsWithAgeGreaterThan(int age) {
+        int[] ages = table.ageColumn();
+        int[] selection = new int[BATCH_SIZE];
+        long count = 0;
+        long sum = 0;
+        for (int from = 0; from < table.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, table.size());
+            int selected = selectGreaterThan(ages, from, to, age, selection);
+            count += selected;
+            sum += sumSelected(ages, selection, selected);
+        }
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in row order, as
+     * {@code StreamExamples.getActorsWithAgeGreaterThan} does. Each batch is
+     * filtered by age first, and only the selected rows are then refined to
+     * the first row of each distinct actor. As the age is part of an actor,
+     * all rows of an actor pass the filter or none does, so the first
+     * selected row of an actor is its first row.
+     * Time Complexity: O(n).
+     * Space Complexity: O(m), for m matching rows.
+     *
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public List<Actor> getActorsWithAgeGreaterThan(int age) {
+        int[] ages = table.ageColumn();
+        int[] selection = new int[BATCH_SIZE];
+        ActorTable.DistinctRows distinct = table.new DistinctRows(BATCH_SIZE);
+        List<Actor> actors = new ArrayList<>();
+        for (int from = 0; from < table.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, table.size());
+            int selected = selectGreaterThan(ages, from, to, age, selection);
+            selected = refine(distinct, selection, selected);
+            for (int i = 0; i < selected; i++) {
+                actors.add(table.get(selection[i]));
+            }
+        }
+        return actors;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv Kernels vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Writes the rows in {@code [from, to)} whose value is greater than the
+     * given one into the selection, in row order.
+     *
+     * @return the number of selected rows.
+     */
+    static int selectGreaterThan(int[] values, int from, int to, int value,
+        int[] selection) {
+        int selected = 0;
+        for (int row = from; row < to; row++) {
+            selection[selected] = row;
+            selected += values[row] > value ? 1 : 0;
+        }
+        return selected;
+    }
+
+    /**
+     * Keeps, in place and in order, the selected rows of actors not yet in
+     * the distinct rows, and adds them to it.
+     *
+     * @return the number of rows still selected.
+     */
+    static int refine(ActorTable.DistinctRows distinct, int[] selection,
+        int selected) {
+        int kept = 0;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            selection[kept] = row;
+            kept += distinct.add(row) ? 1 : 0;
+        }
+        return kept;
+    }
+
+    /**
+     * Sums the values in {@code [from, to)}, four rows at a time.
+     */
+    static long sum(int[] values, int from, int to) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int row = from;
+        for (; row <= to - 4; row += 4) {
+            sum0 += values[row];
+            sum1 += values[row + 1];
+            sum2 += values[row + 2];
+            sum3 += values[row + 3];
+        }
+        for (; row < to; row++) {
+            sum0 += values[row];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    /**
+     * Sums the values of the selected rows, four rows at a time.
+     */
+    static long sumSelected(int[] values, int[] selection, int selected) {
+        long sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i <= selected - 4; i += 4) {
+            sum0 += values[selection[i]];
+            sum1 += values[selection[i + 1]];
+            sum2 += values[selection[i + 2]];
+            sum3 += values[selection[i + 3]];
+        }
+        for (; i < selected; i++) {
+            sum0 += values[selection[i]];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ Kernels ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
@@ -0,0 +1,298 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code StreamExamples} queries over a changing set of actors, reusing
+ * the intermediate results they share.
+ * <p>
+ * Most queries are derived from the actors sorted by name or from the
+ * distinct actors. Both are memoized: computed on first use and kept until
+ * the actors change. Every change bumps a version number, and a memoized
+ * result recomputes itself when it was computed for an older version, so
+ * changes cost O(1) and nothing is recomputed until it is queried again.
+ * <p>
+ * Returned collections are unmodifiable views, valid until the next change.
+ */
+public final class CachedActorQueries {
+    private static final Comparator<Actor> BY_FIRST_NAME_AND_LAST_NAME =
+        Comparator.comparing(Actor::firstName).thenComparing(Actor::lastName);
+    private final List<Actor> actors = new ArrayList<>();
+    private long version;
+    private final Memo<List<Actor>> sorted = new Memo<>(this::sort);
+    private final Memo<List<Actor>> distinct = new Memo<>(this::distinct);
+
+    /**
+     * Construct an empty set of actors.
+     */
+    public CachedActorQueries() {
+    }
+
+    /**
+     * Construct a set of actors holding the given ones.
+     * @param actors the actors to be added, in encounter order.
+     */
+    public CachedActorQueries(Collection<Actor> actors) {
+        addAll(actors);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Adds an actor, invalidating every memoized result.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param actor the actor to be added.
+     */
+    public void add(Actor actor) {
+        actors.add(actor);
+        version++;
+    }
+
+    /**
+     * Adds the given actors, invalidating every memoized result once.
+     * Time Complexity: O(k), for k actors.
+     *
+     * @param actors the actors to be added, in encounter order.
+     */
+    public void addAll(Collection<Actor> actors) {
+        this.actors.addAll(actors);
+        version++;
+    }
+
+    /**
+     * Removes the first occurrence of an actor, invalidating every memoized
+     * result if it was found.
+     * Time Complexity: O(n).
+     *
+     * @param actor the actor to be removed.
+     * @return {@code true} if the actor was found.
+     */
+    public boolean remove(Actor actor) {
+        if(actors.remove(actor)) {
+            version++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes every actor, invalidating every memoized result.
+     * Time Complexity: O(n).
+     */
+    public void clear() {
+        actors.clear();
+        version++;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the version of the actors, bumped by every change.
+     *
+     * @return the version of the actors.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the number of actors.
+     * Time Complexity: O(1).
+     *
+     * @return the number of actors.
+     */
+    public long countActors() {
+        return actors.size();
+    }
+
+    /**
+     * Returns the first occurrence of every distinct actor, in insertion
+     * order, memoized.
+     * Time Complexity: O(n) when the actors have changed, O(1) otherwise.
+     *
+     * @return the distinct actors.
+     */
+    public List<Actor> getDistinctActors() {
+        return distinct.get();
+    }
+
+    /**
+     * Returns the number of distinct actors, from the memoized distinct
+     * actors.
+     * Time Complexity: O(n) when the actors have changed, O(1) otherwise.
+     *
+     * @return the number of distinct actors.
+     */
+    public long countDistinctActors() {
+        return distinct.get().size();
+    }
+
+    /**
+     * Returns the average age of the actors.
+     * Time Complexity: O(n).
+     *
+     * @return the average age, or zero if there are no actors.
+     */
+    public double getAverageAgeOfAllActors() {
+        return actors.stream()
+            .collect(Collectors.averagingInt(Actor::age));
+    }
+
+    /**
+     * Returns the average age of the memoized distinct actors.
+     * Time Complexity: O(d), for d distinct actors, once they are memoized.
+     *
+     * @return the average age, or zero if there are no actors.
+     */
+    public double getAverageAgeOfDistinctActors() {
+        return distinct.get().stream()
+            .collect(Collectors.averagingInt(Actor::age));
+    }
+
+    /**
+     * Returns the actors sorted by first name and then last name, ties kept
+     * in insertion order, memoized.
+     * Time Complexity: O(n log n) when the actors have changed, O(1)
+     * otherwise.
+     *
+     * @return the sorted actors.
+     */
+    public List<Actor> getActorsSortedByFirstNameAscAndLastNameAsc() {
+        return sorted.get();
+    }
+
+    /**
+     * Returns the first actors sorted by name, as a view of the memoized
+     * sorted actors.
+     * Time Complexity: O(1) once sorted.
+     *
+     * @param maxSize the maximum number of actors to be returned.
+     * @return the first actors sorted by name.
+     * @throws IllegalStateException if the number of actors is bellow zero.
+     */
+    public List<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+        int maxSize) {
+        checkNumberOfActors(maxSize);
+        List<Actor> all = sorted.get();
+        return all.subList(0, Math.min(maxSize, all.size()));
+    }
+
+    /**
+     * Returns the actors sorted by name but the first ones, as a view of the
+     * memoized sorted actors.
+     * Time Complexity: O(1) once sorted.
+     *
+     * @param n the number of actors to be skipped.
+     * @return the actors sorted by name but the first n.
+     * @throws IllegalStateException if the number of actors is bellow zero.
+     */
+    public List<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+        int n) {
+        checkNumberOfActors(n);
+        List<Actor> all = sorted.get();
+        return all.subList(Math.min(n, all.size()), all.size());
+    }
+
+    private static void checkNumberOfActors(int n) {
+        if(n < 0) {
+            throw new IllegalStateException(
+                "The number of actors can't be less than zero!");
+        }
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in insertion
+     * order, filtered from the memoized distinct actors.
+     * Time Complexity: O(d), for d distinct actors, once they are memoized.
+     *
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public List<Actor> getActorsWithAgeGreaterThan(int age) {
+        return distinct.get().stream()
+            .filter(actor -> actor.age() > age)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the number of actors of each movie.
+     * Time Complexity: O(n).
+     *
+     * @return the number of actors of every movie.
+     */
+    public Map<String, Long> countActorsGroupedByMovie() {
+        return actors.stream()
+            .collect(Collectors.collectingAndThen(
+                Collectors.groupingBy(Actor::movie, Collectors.counting()),
+                Collections::unmodifiableMap));
+    }
+
+    /**
+     * Returns the movie of every distinct actor, in insertion order, mapped
+     * from the memoized distinct actors.
+     * Time Complexity: O(d), for d distinct actors, once they are memoized.
+     *
+     * @return the movies of the distinct actors.
+     */
+    public List<String> getMoviesFromActors() {
+        return distinct.get().stream()
+            .map(Actor::movie)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the full names of the distinct actors sorted by first name and
+     * then last name, separated by commas, joined from the memoized sorted
+     * actors.
+     * Time Complexity: O(n) once sorted.
+     *
+     * @return the full names of the actors.
+     */
+    public String getActorsFullNames() {
+        return sorted.get().stream()
+            .distinct()
+            .map(actor -> actor.firstName() + " " + actor.lastName())
+            .collect(Joiners.joining(", "));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    private List<Actor> sort() {
+        List<Actor> copy = new ArrayList<>(actors);
+        copy.sort(BY_FIRST_NAME_AND_LAST_NAME);
+        return Collections.unmodifiableList(copy);
+    }
+
+    private List<Actor> distinct() {
+        return List.copyOf(new LinkedHashSet<>(actors));
+    }
+
+    /**
+     * A result computed on first use and recomputed once the actors have
+     * changed since.
+     */
+    private final class Memo<T> {
+        private final Supplier<T> compute;
+        private T value;
+        private long computedAt = -1;
+
+        Memo(Supplier<T> compute) {
+            this.compute = compute;
+        }
+
+        T get() {
+            if(computedAt != version) {
+                value = compute.get();
+                computedAt = version;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import br.com.acmattos.articles.dsa.structure.list.ArrayList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Actors with secondary indexes on first name and age, answering the
+ * {@code StreamExamples} filters without scanning every actor.
+ * <p>
+ * The actors themselves are kept in an {@code ActorTable}. Each index maps a
+ * key to the postings of its actors: their rows in the table, in ascending
+ * order. Keys are kept sorted, so a first name prefix is the range of keys
+ * from the prefix up to, excluded, the prefix with its last char
+ * incremented, and an age range is a range of keys too. Both are found in
+ * O(log d), where d is the number of distinct keys. The postings of the
+ * range are then merged back into insertion order. Adding an actor appends
+ * its row to one posting per index.
+ * <p>
+ * Distinct actors are told apart by comparing their rows in the table, so
+ * no actor is kept outside it.
+ */
+public final class IndexedActors {
+    private final ActorTable actors = new ActorTable();
+    private final NavigableMap<String, ArrayList> byFirstName = new TreeMap<>();
+    private final NavigableMap<Integer, ArrayList> byAge = new TreeMap<>();
+    private final NavigableMap<Integer, ArrayList> distinctByAge = new TreeMap<>();
+    private final ActorTable.DistinctRows distinct =
+        actors.new DistinctRows(16);
+
+    /**
+     * Construct an empty set of indexed actors.
+     */
+    public IndexedActors() {
+    }
+
+    /**
+     * Construct a set of indexed actors holding the given ones.
+     * @param actors the actors to be added, in encounter order.
+     */
+    public IndexedActors(Collection<Actor> actors) {
+        actors.forEach(this::add);
+    }
+
+    /**
+     * Adds an actor, updating every index.
+     * Time Complexity: O(log d).
+     *
+     * @param actor the actor to be added.
+     */
+    public void add(Actor actor) {
+        int position = actors.size();
+        actors.add(actor);
+        postings(byFirstName, actor.firstName()).add(position);
+        postings(byAge, actor.age()).add(position);
+        if(distinct.add(position)) {
+            postings(distinctByAge, actor.age()).add(position);
+        }
+    }
+
+    private static <K> ArrayList postings(NavigableMap<K, ArrayList> index,
+        K key) {
+        return index.computeIfAbsent(key, k -> new ArrayList());
+    }
+
+    /**
+     * Returns the actors whose first name starts with the given prefix, in
+     * insertion order.
+     * Time Complexity: O(log d + k log k), for k matching actors.
+     *
+     * @param prefix the prefix of the first names.
+     * @return the matching actors.
+     */
+    public List<Actor> filterActorsByFirstNameStartingWith(
+        String prefix) {
+        return actorsOf(startingWith(byFirstName, prefix));
+    }
+
+    /**
+     * Returns the keys starting with the given prefix: those from the prefix
+     * itself up to, excluded, the prefix with its last char incremented
+     * (trailing chars that can't be incremented are dropped first).
+     */
+    private static NavigableMap<String, ArrayList> startingWith(
+        NavigableMap<String, ArrayList> index, String prefix) {
+        int end = prefix.length();
+        while(end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if(end == 0) {
+            return index.tailMap(prefix, true);
+        }
+        String limit = prefix.substring(0, end - 1)
+            + (char) (prefix.charAt(end - 1) + 1);
+        return index.subMap(prefix, true, limit, false);
+    }
+
+    /**
+     * Returns the distinct actors older than the given age, in insertion
+     * order. As in {@code StreamExamples}, only the first of equal actors is
+     * returned.
+     * Time Complexity: O(log d + k log k), for k matching actors.
+     *
+     * @param age the age the actors must be older than.
+     * @return the matching actors.
+     */
+    public List<Actor> getActorsWithAgeGreaterThan(int age) {
+        return actorsOf(distinctByAge.tailMap(age, false));
+    }
+
+    /**
+     * Returns the actors whose age is within the given range, bounds
+     * included, in insertion order.
+     * Time Complexity: O(log d + k log k), for k matching actors.
+     *
+     * @param from the minimum age.
+     * @param to the maximum age.
+     * @return the matching actors, none if {@code from > to}.
+     */
+    public List<Actor> getActorsWithAgeBetween(int from, int to) {
+        if(from > to) {
+            return List.of();
+        }
+        return actorsOf(byAge.subMap(from, true, to, true));
+    }
+
+    /**
+     * Returns the number of actors whose age is within the given range,
+     * bounds included, reading only the size of each posting.
+     * Time Complexity: O(log d + a), for a ages in the range.
+     *
+     * @param from the minimum age.
+     * @param to the maximum age.
+     * @return the number of matching actors.
+     */
+    public long countActorsWithAgeBetween(int from, int to) {
+        if(from > to) {
+            return 0;
+        }
+        long count = 0;
+        for (ArrayList postings : byAge.subMap(from, true, to, true).values()) {
+            count += postings.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of actors.
+     *
+     * @return the number of actors.
+     */
+    public int size() {
+        return actors.size();
+    }
+
+    /**
+     * Merges the postings of a key range back into insertion order.
+     */
+    private List<Actor> actorsOf(NavigableMap<?, ArrayList> range) {
+        int count = 0;
+        for (ArrayList postings : range.values()) {
+            count += postings.size();
+        }
+        int[] positions = new int[count];
+        int[] next = {0};
+        for (ArrayList postings : range.values()) {
+            postings.forEach(position -> positions[next[0]++] = position);
+        }
+        if(range.size() > 1) {
+            Arrays.sort(positions);
+        }
+        Actor[] matches = new Actor[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = actors.get(positions[i]);
+        }
+        return Arrays.asList(matches);
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Linear-time joining of character sequences, into a string or straight to
+ * a {@code Writer} or {@code OutputStream}.
+ * <p>
+ * Joining with {@code reduce("", (a, b) -> a + ", " + b)} copies the whole
+ * result built so far on every element, O(n^2) chars for n elements. These
+ * joiners append each element once to a single buffer.
+ */
+public final class Joiners {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Joiners() {
+    }
+
+    /**
+     * Returns a collector joining the elements with the given delimiter, like
+     * {@code Collectors.joining(delimiter)}. Elements are only gathered, and
+     * their length summed, while the stream runs: on parallel streams each
+     * part gets its own small list, and lists are concatenated in encounter
+     * order. The finisher then copies every element once into a single
+     * buffer, sized to the exact length of the result, so it never grows.
+     *
+     * @param delimiter the delimiter between elements.
+     * @return a collector producing the joined elements.
+     */
+    public static Collector<CharSequence, ?, String> joining(
+        CharSequence delimiter) {
+        return Collector.of(
+            Joined::new,
+            Joined::add,
+            Joined::addAll,
+            joined -> joined.join(delimiter));
+    }
+
+    /**
+     * Writes the elements of the given stream, separated by the delimiter, to
+     * the writer, in encounter order. Nothing is accumulated in memory: on a
+     * parallel stream the upstream steps still run in parallel, but the
+     * elements are written one at a time. The writer is neither flushed nor
+     * closed.
+     *
+     * @param elements the elements to be written.
+     * @param delimiter the delimiter between elements.
+     * @param out the writer the elements are written to.
+     * @return the number of chars written.
+     * @throws UncheckedIOException if the writer fails.
+     */
+    public static long joinTo(Stream<? extends CharSequence> elements,
+        CharSequence delimiter, Writer out) {
+        long[] written = {-1};
+        elements.forEachOrdered(element -> {
+            try {
+                if(written[0] >= 0) {
+                    out.append(delimiter);
+                    written[0] += delimiter.length();
+                } else {
+                    written[0] = 0;
+                }
+                out.append(element);
+                written[0] += element.length();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return Math.max(0, written[0]);
+    }
+
+    /**
+     * Writes the elements of the given stream, separated by the delimiter, to
+     * the output stream, encoded with the given charset and buffered. The
+     * output stream is flushed but not closed.
+     *
+     * @param elements the elements to be written.
+     * @param delimiter the delimiter between elements.
+     * @param out the output stream the elements are written to.
+     * @param charset the charset the elements are encoded with.
+     * @return the number of chars written.
+     * @throws UncheckedIOException if the output stream fails.
+     */
+    public static long joinTo(Stream<? extends CharSequence> elements,
+        CharSequence delimiter, OutputStream out, Charset charset) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+        long written = joinTo(elements, delimiter, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+
+    /**
+     * Elements of a join, gathered in encounter order with their total
+     * length.
+     */
+    private static final class Joined {
+        private final List<CharSequence> elements = new ArrayList<>();
+        private long length;
+
+        void add(CharSequence element) {
+            elements.add(element);
+            length += element.length();
+        }
+
+        Joined addAll(Joined later) {
+            elements.addAll(later.elements);
+            length += later.length;
+            return this;
+        }
+
+        String join(CharSequence delimiter) {
+            long length = this.length + (long) delimiter.length()
+                * Math.max(0, elements.size() - 1);
+            // Past the largest array, the builder fails when growing.
+            StringBuilder builder =
+                new StringBuilder((int) Math.min(MAX_CAPACITY, length));
+            for (int i = 0; i < elements.size(); i++) {
+                if(i > 0) {
+                    builder.append(delimiter);
+                }
+                builder.append(elements.get(i));
+            }
+            return builder.toString();
+        }
+    }
+}
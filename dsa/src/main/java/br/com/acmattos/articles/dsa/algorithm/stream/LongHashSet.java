@@ -0,0 +1,72 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing set of {@code long}s, without boxing. Zero marks free slots,
+ * so it is tracked apart.
+ */
+final class LongHashSet {
+    private long[] table = new long[16];
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Adds a value to this set.
+     * Time Complexity: O(1) amortized.
+     *
+     * @return {@code true} if the value was not in this set yet.
+     */
+    boolean add(long value) {
+        if(value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        if(2 * (size + 1) > table.length) {
+            resize();
+        }
+        int mask = table.length - 1;
+        int slot = (int) mix(value) & mask;
+        while(table[slot] != 0) {
+            if(table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        size++;
+        return true;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        int mask = table.length - 1;
+        for (long value : old) {
+            if(value != 0) {
+                int slot = (int) mix(value) & mask;
+                while(table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+}
@@ -11,52 +11,55 @@ import java.util.stream.Collectors;
 public class StreamExamples {
 
     public static void main(String[] args) {
-        System.out.println("count                   : " + countActors());
-        System.out.println("count + distinct        : " + countDistinctActors());
-        System.out.println("max (AGE)               : " + getOldestActor());
-        System.out.println("min (AGE)               : " + getYoungestActor());
-        System.out.println("average (AGE)           : " + getAverageAgeOfAllActors());
-        System.out.println("average (AGE) + distinct: " + getAverageAgeOfDistinctActors());
+        Collection<Actor> actors = getAllActors();
+        System.out.println("count                   : " + countActors(actors));
+        System.out.println("count + distinct        : " + countDistinctActors(actors));
+        System.out.println("max (AGE)               : " + getOldestActor(actors));
+        System.out.println("min (AGE)               : " + getYoungestActor(actors));
+        System.out.println("average (AGE)           : " + getAverageAgeOfAllActors(actors));
+        System.out.println("average (AGE) + distinct: " + getAverageAgeOfDistinctActors(actors));
         System.out.println("filter (J) + forEach    : ");
-        filterActorsByFirstNameStartingWith("J")
+        filterActorsByFirstNameStartingWith(actors, "J")
             .forEach(actor -> System.out.println("  - " + actor));
         System.out.println("sorted + limit (3)      : ");
-        getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(3).stream()
+        getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3).stream()
             .forEach(actor -> System.out.println("  - " +actor));
         System.out.println("sorted + skip (9)       : ");
-        getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(9).stream()
+        getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9).stream()
             .forEach(actor -> System.out.println("  - " +actor));
         System.out.println("sorted (first+last Name): ");
-        getActorsSortedByFirstNameAscAndLastNameAsc().stream()
+        getActorsSortedByFirstNameAscAndLastNameAsc(actors).stream()
             .forEach(actor -> System.out.println("  - " +actor));
         System.out.println("unsorted                : ");
-        getDistinctActors().stream()
+        getDistinctActors(actors).stream()
             .forEach(actor -> System.out.println("  - " +actor));
 
         System.out.println("filter (> 50)           : ");
-        getActorsWithAgeGreaterThan(50).stream()
+        getActorsWithAgeGreaterThan(actors, 50).stream()
             .forEach(actor -> System.out.println("  - " +actor));
         System.out.println("groupBy (MOVIE)         : ");
-        getActorsGroupedByMovie()
-            .forEach((movie, actors) -> {
-                if(actors.size() > 1){
+        getActorsGroupedByMovie(actors)
+            .forEach((movie, movieActors) -> {
+                if(movieActors.size() > 1){
                     System.out.println("  - " + movie + ":");
-                    actors.stream()
+                    movieActors.stream()
                         .forEach(actor -> System.out.println("    - " + actor));
                 }
             });
         System.out.println("groupBy(MOVIE) + count(ACTORS): ");
-        countActorsGroupedByMovie()
+        countActorsGroupedByMovie(actors)
             .forEach((movie, count) ->
                 System.out.println("  - " +movie + ": " + count));
         System.out.println("map(MOVIE)                    : ");
-        getMoviesFromActors()
+        getMoviesFromActors(actors)
             .forEach((movie) ->
                 System.out.println("  - " +movie));
-        System.out.println("reduce(first+last Name)       : " + getActorsFullNames());
+        System.out.println("joining(first+last Name)      : " + getActorsFullNames(actors));
+        System.out.println("summary (single pass)         : "
+            + summarizeActors(actors, ActorAggregate.values()));
     }
 
-    private static Collection<Actor> getAllActors() {
+    static Collection<Actor> getAllActors() {
         return Arrays.asList(
             new Actor("Penelope","Guiness"     , "F", "Angels Life",	 30),
             new Actor("Penelope","Guiness"     , "F", "Angels Life",	 30),
@@ -74,95 +77,100 @@ public class StreamExamples {
             new Actor("Penelope", "Bergen"     , "F", "Hills Neighbors", 55));
     }
 
-    private static Collection<Actor> getDistinctActors() {
-        return getAllActors().stream()
+    static Collection<Actor> getDistinctActors(Collection<Actor> actors) {
+        return actors.stream()
             .distinct()
             .collect(Collectors.toList());
     }
 
-    private static long countActors() {
-        return getAllActors().stream()
+    static long countActors(Collection<Actor> actors) {
+        return actors.stream()
             .count();
     }
 
-    private static long countDistinctActors() {
-        return getDistinctActors().stream()
+    static long countDistinctActors(Collection<Actor> actors) {
+        return getDistinctActors(actors).stream()
             .count();
     }
 
-    private static Optional<Actor> getOldestActor() {
-        return getAllActors().stream()
+    static Optional<Actor> getOldestActor(Collection<Actor> actors) {
+        return actors.stream()
             .max(Comparator.comparingInt(Actor::age));
     }
 
-    private static Optional<Actor> getYoungestActor() {
-        return getAllActors().stream()
+    static Optional<Actor> getYoungestActor(Collection<Actor> actors) {
+        return actors.stream()
             .min(Comparator.comparingInt(Actor::age));
     }
 
-    private static double getAverageAgeOfAllActors() {
-        return getAllActors().stream()
+    static double getAverageAgeOfAllActors(Collection<Actor> actors) {
+        return actors.stream()
             .collect(Collectors.averagingInt(Actor::age));
     }
 
-    private static double getAverageAgeOfDistinctActors() {
-        return getAllActors().stream()
+    static double getAverageAgeOfDistinctActors(Collection<Actor> actors) {
+        return actors.stream()
             .distinct()
             .collect(Collectors.averagingInt(Actor::age));
     }
 
-    private static Collection<Actor> filterActorsByFirstNameStartingWith(
-        String prefix) {
-        return getAllActors().stream()
+    static Collection<Actor> filterActorsByFirstNameStartingWith(Collection<Actor> actors, String prefix) {
+        return actors.stream()
             .filter(actor -> actor.firstName().startsWith(prefix))
             .collect(Collectors.toList());
     }
 
-    private static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc() {
-        return getAllActors().stream()
+    static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc(Collection<Actor> actors) {
+        return actors.stream()
             .sorted(Comparator.comparing(Actor::firstName)
                 .thenComparing(Actor::lastName))
             .collect(Collectors.toList());
     }
 
-    private static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(int maxSize) {
-        return getActorsSortedByFirstNameAscAndLastNameAsc().stream()
+    static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(Collection<Actor> actors, int maxSize) {
+        return getActorsSortedByFirstNameAscAndLastNameAsc(actors).stream()
             .limit(maxSize)
             .collect(Collectors.toList());
     }
 
-    private static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(int n) {
-        return getActorsSortedByFirstNameAscAndLastNameAsc().stream()
+    static Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(Collection<Actor> actors, int n) {
+        return getActorsSortedByFirstNameAscAndLastNameAsc(actors).stream()
             .skip(n)
             .collect(Collectors.toList());
     }
 
-    private static Collection<Actor> getActorsWithAgeGreaterThan(int age){
-        return getDistinctActors().stream()
+    static Collection<Actor> getActorsWithAgeGreaterThan(Collection<Actor> actors, int age){
+        return getDistinctActors(actors).stream()
             .filter(actor -> actor.age() > age)
             .collect(Collectors.toList());
     }
 
-    private static Map<String, List<Actor>> getActorsGroupedByMovie(){
-        return getAllActors().stream()
+    static Map<String, List<Actor>> getActorsGroupedByMovie(Collection<Actor> actors){
+        return actors.stream()
             .collect(Collectors.groupingBy(Actor::movie));
     }
 
-    private static Map<String, Long> countActorsGroupedByMovie(){
-        return getAllActors().stream()
+    static Map<String, Long> countActorsGroupedByMovie(Collection<Actor> actors){
+        return actors.stream()
             .collect(Collectors.groupingBy(Actor::movie, Collectors.counting()));
     }
 
-    private static Collection<String> getMoviesFromActors(){
-        return getDistinctActors().stream()
+    static Collection<String> getMoviesFromActors(Collection<Actor> actors){
+        return getDistinctActors(actors).stream()
             .map(Actor::movie)
             .collect(Collectors.toList());
     }
 
-    private static String getActorsFullNames() {
-        return getActorsSortedByFirstNameAscAndLastNameAsc().stream()
+    static String getActorsFullNames(Collection<Actor> actors) {
+        return getActorsSortedByFirstNameAscAndLastNameAsc(actors).stream()
             .distinct()
             .map(actor -> actor.firstName() + " " + actor.lastName())
-            .reduce("", (result, name) -> result.isEmpty() ? name : result + ", " + name);
+            .collect(Joiners.joining(", "));
+    }
+
+    static ActorSummary summarizeActors(Collection<Actor> actors,
+        ActorAggregate... aggregates) {
+        return actors.stream()
+            .collect(ActorCollectors.summarizing(aggregates));
     }
 }
@@ -0,0 +1,154 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dictionary encoding of strings: every distinct string gets a dense int id,
+ * in order of first appearance, and can be looked up again by its id.
+ * Columns of ids are compared, hashed and grouped as plain ints.
+ * <p>
+ * The dictionary is thread-safe: strings may be interned from parallel
+ * streams, with every distinct string getting a single id.
+ * <p>
+ * Ids are assigned by a concurrent map, once per string. The strings are
+ * kept, by id, in fixed-size pages: growing only copies the (small) array
+ * of pages, never the strings, so pages already handed out stay valid. A
+ * string is stored in its page before its id is published by the map, so
+ * any thread holding an id can read its string. Looking up an interned
+ * string takes no lock.
+ * <p>
+ * Interning also deduplicates the strings themselves: {@link #canonical}
+ * returns the instance stored on first appearance, so equal strings loaded
+ * many times can share a single copy.
+ */
+public class StringDictionary {
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile String[][] pages = new String[1][];
+
+    /**
+     * Returns the id of the given string, adding it to this dictionary if it
+     * is not there yet. Concurrent calls with equal strings return the same
+     * id.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param string the string to be encoded.
+     * @return the id of the string.
+     */
+    public int intern(String string) {
+        Integer id = ids.get(string);
+        if(id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(string, this::store);
+    }
+
+    private Integer store(String string) {
+        int id = next.getAndIncrement();
+        page(id >>> PAGE_SHIFT)[id & PAGE_MASK] = string;
+        return id;
+    }
+
+    private String[] page(int index) {
+        String[][] current = pages;
+        if(index < current.length && current[index] != null) {
+            return current[index];
+        }
+        synchronized (this) {
+            current = pages;
+            if(index >= current.length) {
+                current = Arrays.copyOf(current,
+                    Math.max(index + 1, current.length << 1));
+            }
+            if(current[index] == null) {
+                current[index] = new String[PAGE_SIZE];
+            }
+            pages = current;
+            return current[index];
+        }
+    }
+
+    /**
+     * Returns the instance of the given string held by this dictionary,
+     * adding it if it is not there yet.
+     * Time Complexity: O(1) amortized.
+     *
+     * @param string the string to be deduplicated.
+     * @return the string equal to the given one held by this dictionary.
+     */
+    public String canonical(String string) {
+        return get(intern(string));
+    }
+
+    /**
+     * Returns the id of the given string.
+     * Time Complexity: O(1).
+     *
+     * @param string the string to be looked up.
+     * @return the id of the string, or {@code -1} if it is not in this
+     *         dictionary.
+     */
+    public int idOf(String string) {
+        Integer id = ids.get(string);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the string encoded by the given id, which must have been
+     * returned by this dictionary.
+     * Time Complexity: O(1).
+     *
+     * @param id the id of the string.
+     * @return the string encoded by the id.
+     * @throws IndexOutOfBoundsException if the id is out of range:
+     *         ({@code id < 0 || id >= size()})
+     */
+    public String get(int id) {
+        int size = next.get();
+        if(id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException(
+                "Id out of bounds: " + id + ", size: " + size);
+        }
+        return pages[id >>> PAGE_SHIFT][id & PAGE_MASK];
+    }
+
+    /**
+     * Returns, for every id, the position of its string in ascending order, so
+     * ids can be sorted by comparing ranks instead of strings. Must not be
+     * called while strings are being interned.
+     * Time Complexity: O(d log d), where d is the number of strings.
+     *
+     * @return the rank of every id, indexed by id.
+     */
+    public int[] ranks() {
+        int size = next.get();
+        Integer[] sorted = new Integer[size];
+        String[] strings = new String[size];
+        for (int id = 0; id < size; id++) {
+            sorted[id] = id;
+            strings[id] = get(id);
+        }
+        Arrays.sort(sorted, (a, b) -> strings[a].compareTo(strings[b]));
+        int[] ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            ranks[sorted[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the number of distinct strings in this dictionary.
+     *
+     * @return the number of distinct strings in this dictionary.
+     */
+    public int size() {
+        return ids.size();
+    }
+}
@@ -71,14 +71,16 @@ public class LC2000 {
         return new String(letters);
     }
 
+    // Time and memory of each method are measured by LC2000Benchmark:
+    // mvn -Pbenchmark test-compile -Dbenchmark=LC2000Benchmark -Djmh.args="-prof gc"
     public static void main(String[] args) {
         LC2000 lc = new LC2000();
         System.out.println("\n-=[Reverse Prefix of Word]=- ");
-        System.out.println("-> 8 ms x 42.44 MB");
+        System.out.println("-> String");
         System.out.println("   abcdefd: " + lc.stringReversePrefixOfWord("abcdefd", 'd'));
-        System.out.println("-> 1 ms x 41.30 MB");
+        System.out.println("-> StringBuilder");
         System.out.println("   xyxzxe : " + lc.stringbuilderReversePrefixOfWord("xyxzxe", 'z'));
-        System.out.println("-> 0 ms x 41.37 MB");
+        System.out.println("-> char[]");
         System.out.println("   abcd   : " + lc.charArrayReversePrefixOfWord("abcd", 'z'));
     }
 }
@@ -0,0 +1,118 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Words packed in a single buffer: word {@code i} is made of the bytes from
+ * {@code offsets[i]} up to, excluded, {@code offsets[i + 1]}. A million
+ * words are then two arrays, instead of a million {@code String}s.
+ * <p>
+ * A batch is a single {@code byte[]} addressed by {@code int} offsets, so it
+ * holds at most 2 GB of words: larger inputs must be split by the caller into
+ * several batches. The arrays are neither copied nor protected, as usual for
+ * buffers: the batch is backed by them, and changing them changes the words.
+ * Two batches are equal when they hold the same encoding, bytes and offsets.
+ *
+ * @param encoding the encoding of the bytes.
+ * @param bytes the bytes of every word, one after the other.
+ * @param offsets the offset of every word, followed by the end of the last.
+ */
+public record PackedWords(WordEncoding encoding, byte[] bytes, int[] offsets) {
+    private static final int MAX_BYTES = Integer.MAX_VALUE - 8;
+
+    /**
+     * Construct packed words, checking the offsets.
+     * @throws IllegalStateException if there is no end offset, or the offsets
+     *         decrease or fall out of the bytes.
+     */
+    public PackedWords {
+        if(offsets.length == 0) {
+            throw new IllegalStateException(
+                "The offsets must end with the end of the last word!");
+        }
+        int previous = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if(offsets[i] < previous || offsets[i] > bytes.length) {
+                throw new IllegalStateException(
+                    "Offset out of order at index " + i + ": " + offsets[i]
+                        + "!");
+            }
+            previous = offsets[i];
+        }
+    }
+
+    /**
+     * Returns the given words, packed.
+     *
+     * @param encoding the encoding of the bytes.
+     * @param words the words to be packed.
+     * @return the packed words.
+     * @throws IllegalStateException if the words don't fit in a single batch.
+     */
+    public static PackedWords of(WordEncoding encoding, List<String> words) {
+        byte[][] encoded = new byte[words.size()][];
+        int[] offsets = new int[words.size() + 1];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = words.get(i).getBytes(encoding.charset());
+            if(encoded[i].length > MAX_BYTES - offsets[i]) {
+                throw new IllegalStateException(
+                    "The words exceed a single batch of " + MAX_BYTES
+                        + " bytes!");
+            }
+            offsets[i + 1] = offsets[i] + encoded[i].length;
+        }
+        byte[] bytes = new byte[offsets[encoded.length]];
+        for (int i = 0; i < encoded.length; i++) {
+            System.arraycopy(encoded[i], 0, bytes, offsets[i], encoded[i].length);
+        }
+        return new PackedWords(encoding, bytes, offsets);
+    }
+
+    /**
+     * Decodes the word at the given index.
+     *
+     * @param index index of the word.
+     * @return the word at the index.
+     * @throws IndexOutOfBoundsException if the index is out of range:
+     *         ({@code index < 0 || index >= size()})
+     */
+    public String get(int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(
+                "Index out of bounds: " + index + ", size: " + size());
+        }
+        return new String(bytes, offsets[index],
+            offsets[index + 1] - offsets[index], encoding.charset());
+    }
+
+    /**
+     * Returns the number of words.
+     *
+     * @return the number of words.
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof PackedWords words
+            && encoding == words.encoding
+            && Arrays.equals(bytes, words.bytes)
+            && Arrays.equals(offsets, words.offsets);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = encoding.hashCode();
+        hash = 31 * hash + Arrays.hashCode(bytes);
+        return 31 * hash + Arrays.hashCode(offsets);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedWords[encoding=" + encoding + ", size=" + size()
+            + ", bytes=" + bytes.length + "]";
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+
+/**
+ * Allocation-free kernels of {@code LC2000}: reverse the prefix of a word
+ * up to the first occurrence of a char (inclusive), in place, in the buffer
+ * the caller provides.
+ * <p>
+ * The word is a range of the buffer, so many words can be packed in a single
+ * reusable buffer and processed without creating a {@code String} (or any
+ * other object) per word. Each kernel returns the index at which the char
+ * was found, or {@code -1}, leaving the word unchanged, if it wasn't.
+ * <ul>
+ *  <li>{@code char[]} and {@code CharBuffer}: UTF-16 words, with the same
+ *      result as the {@code LC2000} methods.</li>
+ *  <li>{@code byte[]} and {@code ByteBuffer} in Latin-1: one byte per char,
+ *      so chars above {@code 0xFF} are never found.</li>
+ *  <li>{@code byte[]} in UTF-8: the bytes are reversed, then every multi-byte
+ *      sequence is put back in order, so the word stays valid UTF-8.</li>
+ * </ul>
+ * The byte kernels, on arrays and buffers, search and reverse eight bytes at
+ * a time, within a {@code long} (see {@link #indexOf(byte[], int, int,
+ * byte)}). The UTF-16 kernels stay scalar: there is no {@code long} view of
+ * a {@code char[]}, and packing four chars into a {@code long} by hand costs
+ * as much as comparing them.
+ * <p>
+ * The {@code ByteBuffer} kernel works on heap and direct buffers alike, e.g.
+ * memory mapped files, reading and writing at absolute indexes without
+ * moving the buffer position.
+ */
+public final class ReversePrefix {
+    private static final VarHandle LONGS =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private ReversePrefix() {
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv UTF-16 Words vvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Reverses the prefix of the word in {@code [from, to)} up to the first
+     * occurrence of the char, in place.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer holding the word.
+     * @param from the index of the first char of the word.
+     * @param to the index after the last char of the word.
+     * @param ch the char ending the prefix.
+     * @return the index of the char, or {@code -1} if it wasn't found.
+     * @throws IndexOutOfBoundsException if the range is out of the buffer.
+     */
+    public static int reversePrefix(char[] word, int from, int to, char ch) {
+        checkRange(from, to, word.length);
+        int end = from;
+        while(end < to && word[end] != ch) {
+            end++;
+        }
+        if(end == to) {
+            return -1;
+        }
+        for (int bgn = from, last = end; bgn < last; bgn++, last--) {
+            char temp = word[last];
+            word[last] = word[bgn];
+            word[bgn] = temp;
+        }
+        return end;
+    }
+
+    /**
+     * Reverses the prefix of the word between the position and the limit of
+     * the buffer up to the first occurrence of the char, in place. The
+     * position and limit of the buffer are left unchanged.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer holding the word.
+     * @param ch the char ending the prefix.
+     * @return the index of the char, or {@code -1} if it wasn't found.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     *         and the char is found.
+     */
+    public static int reversePrefix(CharBuffer word, char ch) {
+        int to = word.limit();
+        int end = word.position();
+        while(end < to && word.get(end) != ch) {
+            end++;
+        }
+        if(end == to) {
+            return -1;
+        }
+        for (int bgn = word.position(), last = end; bgn < last; bgn++, last--) {
+            char temp = word.get(last);
+            word.put(last, word.get(bgn));
+            word.put(bgn, temp);
+        }
+        return end;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ UTF-16 Words ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv Latin-1 Words vvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Reverses the prefix of the Latin-1 word in {@code [from, to)} up to the
+     * first occurrence of the char, in place.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer holding the word.
+     * @param from the index of the first byte of the word.
+     * @param to the index after the last byte of the word.
+     * @param ch the char ending the prefix.
+     * @return the index of the char, or {@code -1} if it wasn't found.
+     * @throws IndexOutOfBoundsException if the range is out of the buffer.
+     */
+    public static int reversePrefixLatin1(byte[] word, int from, int to,
+        char ch) {
+        checkRange(from, to, word.length);
+        if(ch > 0xFF) {
+            return -1;
+        }
+        int end = indexOf(word, from, to, (byte) ch);
+        if(end < 0) {
+            return -1;
+        }
+        reverse(word, from, end);
+        return end;
+    }
+
+    /**
+     * Reverses the prefix of the Latin-1 word between the position and the
+     * limit of the buffer up to the first occurrence of the char, in place.
+     * The position and limit of the buffer are left unchanged.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer holding the word.
+     * @param ch the char ending the prefix.
+     * @return the index of the char, or {@code -1} if it wasn't found.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     *         and the char is found.
+     */
+    public static int reversePrefixLatin1(ByteBuffer word, char ch) {
+        if(ch > 0xFF) {
+            return -1;
+        }
+        int end = indexOf(word, word.position(), word.limit(), (byte) ch);
+        if(end < 0) {
+            return -1;
+        }
+        reverse(word, word.position(), end);
+        return end;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ Latin-1 Words ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv UTF-8 Words vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Reverses the prefix of the UTF-8 word in {@code [from, to)} up to the
+     * first occurrence of the char, in place, keeping the word valid UTF-8:
+     * the code points of the prefix are reversed, not its bytes. UTF-8 is
+     * self-synchronizing, so the char is found by searching for its encoding.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer holding the word, in UTF-8.
+     * @param from the index of the first byte of the word.
+     * @param to the index after the last byte of the word.
+     * @param ch the char ending the prefix; surrogates are never found.
+     * @return the index of the first byte of the char, or {@code -1} if it
+     *         wasn't found.
+     * @throws IndexOutOfBoundsException if the range is out of the buffer.
+     */
+    public static int reversePrefixUtf8(byte[] word, int from, int to,
+        char ch) {
+        checkRange(from, to, word.length);
+        if(Character.isSurrogate(ch)) {
+            return -1;
+        }
+        int length = ch < 0x80 ? 1 : ch < 0x800 ? 2 : 3;
+        int lead = length == 1 ? ch
+            : length == 2 ? 0xC0 | ch >>> 6 : 0xE0 | ch >>> 12;
+        int start = from;
+        int limit = to - length + 1;
+        while(true) {
+            start = start < limit ? indexOf(word, start, limit, (byte) lead) : -1;
+            if(start < 0) {
+                return -1;
+            }
+            if(length == 1 || matches(word, start, ch, length)) {
+                break;
+            }
+            start++;
+        }
+        int end = start + length - 1;
+        reverse(word, from, end);
+        // Multi-byte sequences now read continuation bytes first: each run of
+        // continuation bytes and the lead byte after it is reversed back.
+        int i = from;
+        while(i <= end) {
+            if((word[i] & 0xC0) == 0x80) {
+                int run = i;
+                while(run < end && (word[run] & 0xC0) == 0x80) {
+                    run++;
+                }
+                reverse(word, i, run);
+                i = run + 1;
+            } else {
+                i++;
+            }
+        }
+        return start;
+    }
+
+    private static boolean matches(byte[] word, int start, char ch,
+        int length) {
+        if(length == 2) {
+            return word[start + 1] == (byte) (0x80 | ch & 0x3F);
+        }
+        return word[start + 1] == (byte) (0x80 | ch >>> 6 & 0x3F)
+            && word[start + 2] == (byte) (0x80 | ch & 0x3F);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ UTF-8 Words ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv SWAR vvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the index of the first occurrence of the byte in
+     * {@code [from, to)}, testing eight bytes at a time (SIMD within a
+     * register): the bytes are read as a little-endian {@code long} and
+     * xor-ed with the byte repeated eight times, so matching bytes become
+     * zero. {@code (x - 0x01..01) & ~x & 0x80..80} then sets the high bit of
+     * every zero byte; only bytes above a zero byte may be flagged wrongly,
+     * so the lowest flag is exact.
+     * Time Complexity: O(n).
+     *
+     * @param word the buffer to be searched.
+     * @param from the index the search starts at.
+     * @param to the index the search stops before.
+     * @param b the byte to be found.
+     * @return the index of the byte, or {@code -1} if it wasn't found.
+     * @throws IndexOutOfBoundsException if the range is out of the buffer.
+     */
+    public static int indexOf(byte[] word, int from, int to, byte b) {
+        checkRange(from, to, word.length);
+        long pattern = (b & 0xFFL) * LOW_BITS;
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long x = (long) LONGS.get(word, i) ^ pattern;
+            long zeros = (x - LOW_BITS) & ~x & HIGH_BITS;
+            if(zeros != 0) {
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if(word[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same as {@link #indexOf(byte[], int, int, byte)}, one byte at a time:
+     * the baseline of the SWAR search.
+     */
+    static int indexOfScalar(byte[] word, int from, int to, byte b) {
+        for (int i = from; i < to; i++) {
+            if(word[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reverses the bytes in {@code [bgn, last]}, in place, eight at a time
+     * from both ends: each block of eight is read as a {@code long}, has its
+     * bytes reversed by {@code Long.reverseBytes} (a single instruction on
+     * most CPUs) and is written at the mirrored position. The middle, shorter
+     * than sixteen bytes, is swapped a byte at a time.
+     */
+    static void reverse(byte[] word, int bgn, int last) {
+        while(last - bgn + 1 >= 2 * Long.BYTES) {
+            long head = (long) LONGS.get(word, bgn);
+            long tail = (long) LONGS.get(word, last - Long.BYTES + 1);
+            LONGS.set(word, bgn, Long.reverseBytes(tail));
+            LONGS.set(word, last - Long.BYTES + 1, Long.reverseBytes(head));
+            bgn += Long.BYTES;
+            last -= Long.BYTES;
+        }
+        reverseScalar(word, bgn, last);
+    }
+
+    /**
+     * Same as {@link #reverse(byte[], int, int)}, one byte at a time: the
+     * baseline of the SWAR reverse.
+     */
+    static void reverseScalar(byte[] word, int bgn, int last) {
+        for (; bgn < last; bgn++, last--) {
+            byte temp = word[last];
+            word[last] = word[bgn];
+            word[bgn] = temp;
+        }
+    }
+
+    /**
+     * Same as {@link #indexOf(byte[], int, int, byte)}, on a buffer. The bytes
+     * are read as a {@code long} in the order of the buffer, then turned
+     * little-endian, so the first byte is always the lowest.
+     */
+    static int indexOf(ByteBuffer word, int from, int to, byte b) {
+        boolean bigEndian = word.order() == ByteOrder.BIG_ENDIAN;
+        long pattern = (b & 0xFFL) * LOW_BITS;
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long bytes = word.getLong(i);
+            long x = (bigEndian ? Long.reverseBytes(bytes) : bytes) ^ pattern;
+            long zeros = (x - LOW_BITS) & ~x & HIGH_BITS;
+            if(zeros != 0) {
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if(word.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Same as {@link #reverse(byte[], int, int)}, on a buffer. Reversing the
+     * bytes of a {@code long} doesn't depend on the order of the buffer.
+     */
+    static void reverse(ByteBuffer word, int bgn, int last) {
+        while(last - bgn + 1 >= 2 * Long.BYTES) {
+            long head = word.getLong(bgn);
+            long tail = word.getLong(last - Long.BYTES + 1);
+            word.putLong(bgn, Long.reverseBytes(tail));
+            word.putLong(last - Long.BYTES + 1, Long.reverseBytes(head));
+            bgn += Long.BYTES;
+            last -= Long.BYTES;
+        }
+        for (; bgn < last; bgn++, last--) {
+            byte temp = word.get(last);
+            word.put(last, word.get(bgn));
+            word.put(bgn, temp);
+        }
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^ SWAR ^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    static void checkRange(int from, int to, int length) {
+        if(from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(
+                "Range out of bounds: [" + from + ", " + to + "), length: "
+                    + length);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@code LC2000} over many words at once: reverses the prefix of every word
+ * of {@code PackedWords} up to the first occurrence of a char, writing the
+ * results into an output buffer laid out like the input.
+ * <p>
+ * The words are processed in chunks of consecutive words: a chunk is copied
+ * to the output with a single {@code arraycopy}, then every word of it is
+ * reversed in place there. No object is created per word. In parallel, the
+ * words are split in halves until chunks are small enough, and the chunks
+ * are run by the common fork-join pool; chunks never share a byte, so they
+ * need no synchronization.
+ */
+public final class ReversePrefixBatch {
+    static final int CHUNK_SIZE = 4096;
+
+    private ReversePrefixBatch() {
+    }
+
+    /**
+     * Reverses the prefix of every word up to the first occurrence of the
+     * char, into the output: the result of word {@code i} is at the same
+     * offsets of the output as the word in the input. The output may be the
+     * bytes of the words themselves, to reverse them in place.
+     * Time Complexity: O(n), for n bytes.
+     *
+     * @param words the words whose prefixes are reversed.
+     * @param ch the char ending the prefixes.
+     * @param out the buffer the results are written to.
+     * @param parallel {@code true} to process chunks of words in parallel.
+     * @return the number of words holding the char, whose prefix was
+     *         reversed.
+     * @throws IllegalStateException if the output is shorter than the words.
+     */
+    public static int reversePrefixes(PackedWords words, char ch, byte[] out,
+        boolean parallel) {
+        int[] offsets = words.offsets();
+        if(out.length < offsets[offsets.length - 1]) {
+            throw new IllegalStateException(
+                "The output can't be shorter than the words: " + out.length
+                    + " < " + offsets[offsets.length - 1] + "!");
+        }
+        Chunk chunk = new Chunk(words, ch, out, 0, words.size(), parallel);
+        return parallel ? ForkJoinPool.commonPool().invoke(chunk)
+            : chunk.compute();
+    }
+
+    /**
+     * Reverses the prefix of every word up to the first occurrence of the
+     * char, into a new buffer with its own copy of the offsets.
+     *
+     * @param words the words whose prefixes are reversed.
+     * @param ch the char ending the prefixes.
+     * @param parallel {@code true} to process chunks of words in parallel.
+     * @return the words with their prefixes reversed.
+     */
+    public static PackedWords reversePrefixes(PackedWords words, char ch,
+        boolean parallel) {
+        byte[] out = new byte[words.bytes().length];
+        reversePrefixes(words, ch, out, parallel);
+        return new PackedWords(words.encoding(), out, words.offsets().clone());
+    }
+
+    /**
+     * The words in {@code [from, to)}, split while larger than a chunk when
+     * run in parallel.
+     */
+    @SuppressWarnings("serial") // Never serialized: only run by its own pool
+    private static final class Chunk extends RecursiveTask<Integer> {
+        private final PackedWords words;
+        private final char ch;
+        private final byte[] out;
+        private final int from;
+        private final int to;
+        private final boolean parallel;
+
+        Chunk(PackedWords words, char ch, byte[] out, int from, int to,
+            boolean parallel) {
+            this.words = words;
+            this.ch = ch;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected Integer compute() {
+            if(parallel && to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                Chunk left = new Chunk(words, ch, out, from, middle, true);
+                left.fork();
+                int right = new Chunk(words, ch, out, middle, to, true).compute();
+                return left.join() + right;
+            }
+            int[] offsets = words.offsets();
+            if(out != words.bytes()) {
+                System.arraycopy(words.bytes(), offsets[from], out,
+                    offsets[from], offsets[to] - offsets[from]);
+            }
+            WordEncoding encoding = words.encoding();
+            int reversed = 0;
+            for (int i = from; i < to; i++) {
+                if(encoding.reversePrefix(out, offsets[i], offsets[i + 1], ch)
+                    >= 0) {
+                    reversed++;
+                }
+            }
+            return reversed;
+        }
+    }
+}
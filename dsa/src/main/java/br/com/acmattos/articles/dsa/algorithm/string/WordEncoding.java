@@ -0,0 +1,57 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodings of the bytes of {@code PackedWords}, each with its
+ * {@code ReversePrefix} kernel.
+ */
+public enum WordEncoding {
+    /**
+     * One byte per char, for chars up to {@code 0xFF}.
+     */
+    LATIN_1(StandardCharsets.ISO_8859_1) {
+        @Override
+        public int reversePrefix(byte[] word, int from, int to, char ch) {
+            return ReversePrefix.reversePrefixLatin1(word, from, to, ch);
+        }
+    },
+    /**
+     * One to four bytes per code point; prefixes are reversed by code point.
+     */
+    UTF_8(StandardCharsets.UTF_8) {
+        @Override
+        public int reversePrefix(byte[] word, int from, int to, char ch) {
+            return ReversePrefix.reversePrefixUtf8(word, from, to, ch);
+        }
+    };
+
+    private final Charset charset;
+
+    WordEncoding(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the charset of this encoding.
+     *
+     * @return the charset of this encoding.
+     */
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * Reverses the prefix of the word in {@code [from, to)} up to the first
+     * occurrence of the char, in place.
+     *
+     * @param word the buffer holding the word.
+     * @param from the index of the first byte of the word.
+     * @param to the index after the last byte of the word.
+     * @param ch the char ending the prefix.
+     * @return the index of the char, or {@code -1} if it wasn't found.
+     * @throws IndexOutOfBoundsException if the range is out of the buffer.
+     */
+    public abstract int reversePrefix(byte[] word, int from, int to, char ch);
+}
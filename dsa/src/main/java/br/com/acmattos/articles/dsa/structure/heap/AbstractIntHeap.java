@@ -0,0 +1,206 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Array-backed skeleton shared by the {@code IntHeap} implementations. The
+ * heap is stored level by level in a resizable {@code int[]}; subclasses only
+ * decide how many children a position has and how values are sifted.
+ */
+abstract class AbstractIntHeap implements IntHeap, MemoryMeasurable {
+    private static final int DEFAULT_CAPACITY = 10;
+    protected final IntComparator comparator;
+    protected int[] heap;
+    protected int size;
+
+    /**
+     * Construct a heap.
+     * @param capacity the initial capacity of this heap.
+     * @param comparator the order of this heap: the smallest value according
+     *                   to it is the top of the heap.
+     * @throws IllegalStateException if the capacity is bellow zero.
+     */
+    protected AbstractIntHeap(int capacity, IntComparator comparator) {
+        if(capacity < 0) {
+            throw new IllegalStateException(
+                "The heap capacity can't be less than zero!");
+        }
+        this.heap = new int[capacity];
+        this.comparator = comparator;
+    }
+
+    protected AbstractIntHeap(IntComparator comparator) {
+        this(DEFAULT_CAPACITY, comparator);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Adds a value to this heap.
+     * Time Complexity: O(log n), amortized over the array growth.
+     *
+     * @param value the value to be added.
+     */
+    @Override
+    public void add(int value) {
+        if(size == heap.length) {
+            resize();
+        }
+        siftUp(size++, value);
+    }
+
+    /**
+     * Removes and returns the top value of this heap.
+     * Time Complexity: O(log n).
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    @Override
+    public int remove() {
+        int top = peek();
+        size--;
+        if(size > 0) {
+            siftDown(0, heap[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Replaces the top value of this heap with the given value, returning the
+     * previous top.
+     * Time Complexity: O(log n).
+     *
+     * @param value the value to be added.
+     * @return the removed value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    @Override
+    public int replace(int value) {
+        int top = peek();
+        siftDown(0, value);
+        return top;
+    }
+
+    /**
+     * Removes all the values from this heap by resetting its size to zero.
+     * Time Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Resize the current heap, growing its capacity by half (plus one, so an
+     * empty array can grow too).
+     * Time Complexity: O(n).
+     *
+     * @throws IllegalStateException if the array exceeds its max capacity.
+     */
+    private void resize() {
+        if(heap.length == Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                "The heap exceeds its max capacity!");
+        }
+        int grown = heap.length + (heap.length >> 1) + 1;
+        int[] copy = new int[grown < 0 ? Integer.MAX_VALUE : grown];
+        System.arraycopy(heap, 0, copy, 0, size);
+        heap = copy;
+    }
+
+    /**
+     * Moves the given value up from the given position until its parent comes
+     * before it, shifting parents down along the way.
+     *
+     * @param index the position the value starts at.
+     * @param value the value to be placed.
+     */
+    protected abstract void siftUp(int index, int value);
+
+    /**
+     * Moves the given value down from the given position until none of its
+     * children comes before it, shifting children up along the way.
+     *
+     * @param index the position the value starts at.
+     * @param value the value to be placed.
+     */
+    protected abstract void siftDown(int index, int value);
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the top value of this heap, without removing it.
+     * Time Complexity: O(1).
+     *
+     * @return the top value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    @Override
+    public int peek() {
+        if(size == 0) {
+            throw new NoSuchElementException("The heap is empty!");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the number of values in this heap.
+     *
+     * @return the number of values in this heap.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this heap contains no values.
+     *
+     * @return {@code true} if this heap contains no values.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this heap, excluding its
+     * comparator, which is usually shared. The unused capacity of the array is
+     * reported as slack.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this heap.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 2, 1 + extraIntFields(), 0)
+            .plus(MemoryLayout.intArray(size, heap.length));
+    }
+
+    /**
+     * Returns the number of {@code int} fields declared by the subclass, so
+     * they are accounted by {@link #footprint()}.
+     *
+     * @return the number of extra {@code int} fields.
+     */
+    protected int extraIntFields() {
+        return 0;
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName())
+            .append("=[");
+        for(int i = 0; i < size; i++){
+            sb.append(heap[i]).append(", ");
+        }
+        if(size > 0) {
+            return sb.substring(0, sb.lastIndexOf(", ")) + "]";
+        }
+        return sb + "]";
+    }
+}
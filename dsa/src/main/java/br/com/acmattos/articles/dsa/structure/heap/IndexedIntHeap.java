@@ -0,0 +1,350 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary heap of {@code int} keys.
+ * <p>
+ * Each entry is identified by an id in {@code [0, capacity)} and ordered by
+ * its key. Besides the heap of ids, the position of every id is tracked, so
+ * the key of an entry already in the heap can be changed in O(log n) - the
+ * {@code decreaseKey} operation needed by algorithms such as Dijkstra's or
+ * Prim's - without scanning the heap or leaving stale duplicates behind.
+ */
+public class IndexedIntHeap implements MemoryMeasurable {
+    private static final int ABSENT = -1;
+    private final IntComparator comparator;
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+    private int size;
+
+    /**
+     * Construct a min-heap: the entry with the smallest key is the top of the
+     * heap.
+     * @param capacity the number of ids this heap can hold, from {@code 0} to
+     *                 {@code capacity - 1}.
+     * @throws IllegalStateException if the capacity is bellow zero.
+     */
+    public IndexedIntHeap(int capacity) {
+        this(capacity, IntComparator.NATURAL);
+    }
+
+    /**
+     * Construct a heap.
+     * @param capacity the number of ids this heap can hold, from {@code 0} to
+     *                 {@code capacity - 1}.
+     * @param comparator the order of this heap: the entry with the smallest
+     *                   key according to it is the top of the heap.
+     * @throws IllegalStateException if the capacity is bellow zero.
+     */
+    public IndexedIntHeap(int capacity, IntComparator comparator) {
+        if(capacity < 0) {
+            throw new IllegalStateException(
+                "The heap capacity can't be less than zero!");
+        }
+        this.comparator = comparator;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Adds an entry to this heap.
+     * Time Complexity: O(log n).
+     *
+     * @param id the id of the entry.
+     * @param key the key of the entry.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     * @throws IllegalStateException if the id is already in this heap.
+     */
+    public void add(int id, int key) {
+        if(contains(id)) {
+            throw new IllegalStateException(
+                "The id is already in the heap: " + id);
+        }
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Moves the entry with the given id closer to the top, by replacing its
+     * key with one that comes before it (or is equal).
+     * Time Complexity: O(log n).
+     *
+     * @param id the id of the entry.
+     * @param key the new key of the entry.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     * @throws NoSuchElementException if the id is not in this heap.
+     * @throws IllegalStateException if the new key comes after the current
+     *         one.
+     */
+    public void decreaseKey(int id, int key) {
+        checkPresent(id);
+        if(comparator.compare(key, keys[id]) > 0) {
+            throw new IllegalStateException(
+                "The key " + key + " doesn't decrease the key " + keys[id]
+                    + " of id " + id + "!");
+        }
+        keys[id] = key;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Replaces the key of the entry with the given id, moving it up or down
+     * as needed.
+     * Time Complexity: O(log n).
+     *
+     * @param id the id of the entry.
+     * @param key the new key of the entry.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     * @throws NoSuchElementException if the id is not in this heap.
+     */
+    public void updateKey(int id, int key) {
+        checkPresent(id);
+        int previous = keys[id];
+        keys[id] = key;
+        if(comparator.compare(key, previous) < 0) {
+            siftUp(positions[id]);
+        } else {
+            siftDown(positions[id]);
+        }
+    }
+
+    /**
+     * Removes the top entry of this heap and returns its id.
+     * Time Complexity: O(log n).
+     *
+     * @return the id of the removed entry.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    public int remove() {
+        int top = peekId();
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Removes the entry with the given id from this heap.
+     * Time Complexity: O(log n).
+     *
+     * @param id the id of the entry.
+     * @return the key of the removed entry.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     * @throws NoSuchElementException if the id is not in this heap.
+     */
+    public int remove(int id) {
+        checkPresent(id);
+        removeAt(positions[id]);
+        return keys[id];
+    }
+
+    /**
+     * Removes all the entries from this heap.
+     * Time Complexity: O(n).
+     */
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int position) {
+        int id = heap[position];
+        positions[id] = ABSENT;
+        size--;
+        if(position == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[position] = last;
+        positions[last] = position;
+        if(position > 0
+            && comparator.compare(keys[last], keys[heap[(position - 1) >>> 1]]) < 0) {
+            siftUp(position);
+        } else {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * Time Complexity: O(log n).
+     */
+    private void siftUp(int index) {
+        int id = heap[index];
+        int key = keys[id];
+        while(index > 0) {
+            int parent = (index - 1) >>> 1;
+            if(comparator.compare(key, keys[heap[parent]]) >= 0) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(id, index);
+    }
+
+    /**
+     * Time Complexity: O(log n).
+     */
+    private void siftDown(int index) {
+        int id = heap[index];
+        int key = keys[id];
+        int half = size >>> 1;
+        while(index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if(right < size
+                && comparator.compare(keys[heap[right]], keys[heap[child]]) < 0) {
+                child = right;
+            }
+            if(comparator.compare(key, keys[heap[child]]) <= 0) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(id, index);
+    }
+
+    private void move(int id, int position) {
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void checkPresent(int id) {
+        if(!contains(id)) {
+            throw new NoSuchElementException(
+                "The id is not in the heap: " + id);
+        }
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the id of the top entry of this heap, without removing it.
+     * Time Complexity: O(1).
+     *
+     * @return the id of the top entry.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    public int peekId() {
+        if(size == 0) {
+            throw new NoSuchElementException("The heap is empty!");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the key of the top entry of this heap, without removing it.
+     * Time Complexity: O(1).
+     *
+     * @return the key of the top entry.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    public int peekKey() {
+        return keys[peekId()];
+    }
+
+    /**
+     * Returns the key of the entry with the given id.
+     * Time Complexity: O(1).
+     *
+     * @param id the id of the entry.
+     * @return the key of the entry.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     * @throws NoSuchElementException if the id is not in this heap.
+     */
+    public int keyOf(int id) {
+        checkPresent(id);
+        return keys[id];
+    }
+
+    /**
+     * Returns {@code true} if this heap contains an entry with the given id.
+     * Time Complexity: O(1).
+     *
+     * @param id the id of the entry.
+     * @return {@code true} if this heap contains the id.
+     * @throws IndexOutOfBoundsException if the id is out of range
+     *         ({@code id < 0 || id >= capacity()})
+     */
+    public boolean contains(int id) {
+        if(id < 0 || id >= positions.length) {
+            throw new IndexOutOfBoundsException(
+                "Id out of bounds: " + id + ", capacity: " + positions.length);
+        }
+        return positions[id] != ABSENT;
+    }
+
+    /**
+     * Returns the number of entries in this heap.
+     *
+     * @return the number of entries in this heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if this heap contains no entries.
+     *
+     * @return {@code true} if this heap contains no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of ids this heap can hold.
+     *
+     * @return the capacity of this heap.
+     */
+    public int capacity() {
+        return positions.length;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this heap, excluding its
+     * comparator, which is usually shared. Ids and keys of the entries are
+     * the payload, their unused slots the slack, and the positions of the ids
+     * are bookkeeping overhead.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this heap.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 4, 1, 0)
+            .plus(MemoryLayout.intArray(size, heap.length))
+            .plus(MemoryLayout.intArray(size, keys.length))
+            .plus(MemoryLayout.intArray(positions.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IndexedIntHeap=[");
+        for(int i = 0; i < size; i++){
+            sb.append(heap[i]).append(": ").append(keys[heap[i]]).append(", ");
+        }
+        if(size > 0) {
+            return sb.substring(0, sb.lastIndexOf(", ")) + "]";
+        }
+        return sb + "]";
+    }
+}
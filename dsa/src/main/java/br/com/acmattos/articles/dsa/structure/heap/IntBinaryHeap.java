@@ -0,0 +1,68 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+/**
+ * Binary heap implementation of the {@code IntHeap} interface.
+ * <p>
+ * The children of position {@code i} are {@code 2i + 1} and {@code 2i + 2},
+ * so walking the tree costs a shift per level. Values are kept as primitive
+ * {@code int}s, so unlike {@code java.util.PriorityQueue<Integer>} nothing is
+ * boxed.
+ */
+public class IntBinaryHeap extends AbstractIntHeap {
+
+    /**
+     * Construct a min-heap: the smallest value is the top of the heap.
+     * Initial {@code capacity} of this heap is 10.
+     */
+    public IntBinaryHeap() {
+        super(IntComparator.NATURAL);
+    }
+
+    /**
+     * Construct a heap.
+     * @param capacity the initial capacity of this heap.
+     * @param comparator the order of this heap: the smallest value according
+     *                   to it is the top of the heap.
+     * @throws IllegalStateException if the capacity is bellow zero.
+     */
+    public IntBinaryHeap(int capacity, IntComparator comparator) {
+        super(capacity, comparator);
+    }
+
+    /**
+     * Time Complexity: O(log n).
+     */
+    @Override
+    protected void siftUp(int index, int value) {
+        while(index > 0) {
+            int parent = (index - 1) >>> 1;
+            if(comparator.compare(value, heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Time Complexity: O(log n).
+     */
+    @Override
+    protected void siftDown(int index, int value) {
+        int half = size >>> 1;
+        while(index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if(right < size && comparator.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if(comparator.compare(value, heap[child]) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
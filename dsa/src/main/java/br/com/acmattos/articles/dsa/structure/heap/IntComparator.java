@@ -0,0 +1,28 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+/**
+ * A comparison function over primitive {@code int} values, so heaps can be
+ * ordered without boxing their values into {@code Integer}s.
+ */
+@FunctionalInterface
+public interface IntComparator {
+    /**
+     * Orders values from smallest to largest.
+     */
+    IntComparator NATURAL = Integer::compare;
+
+    /**
+     * Orders values from largest to smallest.
+     */
+    IntComparator REVERSE = (left, right) -> Integer.compare(right, left);
+
+    /**
+     * Compares its two arguments for order.
+     *
+     * @param left the first value to be compared.
+     * @param right the second value to be compared.
+     * @return a negative integer, zero, or a positive integer as the first
+     *         value is less than, equal to, or greater than the second.
+     */
+    int compare(int left, int right);
+}
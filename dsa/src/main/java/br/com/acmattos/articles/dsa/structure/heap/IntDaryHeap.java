@@ -0,0 +1,102 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+/**
+ * D-ary heap implementation of the {@code IntHeap} interface.
+ * <p>
+ * Each position has {@code arity} children, stored next to each other at
+ * {@code arity * i + 1} onwards. A wider heap is shallower, so insertions
+ * touch fewer levels, and the children compared on the way down share cache
+ * lines: an arity of 4 or 8 usually beats a binary heap once the heap no
+ * longer fits in cache.
+ */
+public class IntDaryHeap extends AbstractIntHeap {
+    private final int arity;
+
+    /**
+     * Construct a min-heap: the smallest value is the top of the heap.
+     * Initial {@code capacity} of this heap is 10.
+     * @param arity the number of children of each position.
+     * @throws IllegalStateException if the arity is bellow two.
+     */
+    public IntDaryHeap(int arity) {
+        super(IntComparator.NATURAL);
+        this.arity = checkArity(arity);
+    }
+
+    /**
+     * Construct a heap.
+     * @param arity the number of children of each position.
+     * @param capacity the initial capacity of this heap.
+     * @param comparator the order of this heap: the smallest value according
+     *                   to it is the top of the heap.
+     * @throws IllegalStateException if the arity is bellow two or the
+     *         capacity is bellow zero.
+     */
+    public IntDaryHeap(int arity, int capacity, IntComparator comparator) {
+        super(capacity, comparator);
+        this.arity = checkArity(arity);
+    }
+
+    private static int checkArity(int arity) {
+        if(arity < 2) {
+            throw new IllegalStateException(
+                "The heap arity can't be less than two!");
+        }
+        return arity;
+    }
+
+    /**
+     * Gets the number of children of each position of this heap.
+     * @return The arity of this heap.
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    @Override
+    protected int extraIntFields() {
+        return 1;
+    }
+
+    /**
+     * Time Complexity: O(log_d n).
+     */
+    @Override
+    protected void siftUp(int index, int value) {
+        while(index > 0) {
+            int parent = (index - 1) / arity;
+            if(comparator.compare(value, heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Time Complexity: O(d log_d n).
+     */
+    @Override
+    protected void siftDown(int index, int value) {
+        while(true) {
+            int first = arity * index + 1;
+            if(first >= size || first < 0) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int child = first;
+            for(int i = first + 1; i < last; i++) {
+                if(comparator.compare(heap[i], heap[child]) < 0) {
+                    child = i;
+                }
+            }
+            if(comparator.compare(value, heap[child]) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import java.util.NoSuchElementException;
+
+/**
+ * In the context of data structures, a heap is a tree-shaped data structure
+ * that keeps the highest priority value at its root. Here are some common
+ * characteristics associated with heaps in data structures:
+ * <ul>
+ *  <li>{@code Heap Property}: Every value has a priority higher than or equal
+ *      to the priority of its children, so the top of the heap is always the
+ *      highest priority value. Siblings are not ordered among themselves.</li>
+ *  <li>{@code Implicit Tree}: Heaps are usually complete trees stored in an
+ *      array, where the children of a position are found by arithmetic on its
+ *      index instead of following references.</li>
+ *  <li>{@code Priority Queue}: Heaps are the usual implementation of priority
+ *      queues, giving O(1) access to the top value and O(log n) insertions and
+ *      removals.</li>
+ *  <li>{@code Arity}: Each node may have two (binary heap) or more (d-ary heap)
+ *      children. Wider nodes make the tree shallower and keep siblings in the
+ *      same cache line, at the price of more comparisons per level.</li>
+ *  <li>{@code Selection}: A bounded heap keeps the best {@code k} values seen
+ *      so far, selecting the top {@code k} values of {@code n} in
+ *      O(n log k).</li>
+ * </ul>
+ */
+public interface IntHeap {
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Adds a value to this heap.
+     *
+     * @param value the value to be added.
+     */
+    void add(int value);
+
+    /**
+     * Removes and returns the top value of this heap.
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    int remove();
+
+    /**
+     * Replaces the top value of this heap with the given value, returning the
+     * previous top. Cheaper than a {@code remove()} followed by an
+     * {@code add(value)}, since the heap is restored only once.
+     *
+     * @param value the value to be added.
+     * @return the removed value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    int replace(int value);
+
+    /**
+     * Removes all of the values from this heap.
+     * The heap will be empty after this call returns.
+     */
+    void clear();
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the top value of this heap, without removing it.
+     *
+     * @return the top value.
+     * @throws NoSuchElementException if this heap is empty.
+     */
+    int peek();
+
+    /**
+     * Returns the number of values in this heap.
+     *
+     * @return the number of values in this heap.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this heap contains no values.
+     *
+     * @return {@code true} if this heap contains no values.
+     */
+    boolean isEmpty();
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
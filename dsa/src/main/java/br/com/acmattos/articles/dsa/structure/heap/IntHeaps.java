@@ -0,0 +1,64 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+
+/**
+ * Selection helpers built on top of the {@code IntHeap} implementations.
+ */
+public final class IntHeaps {
+
+    private IntHeaps() {
+    }
+
+    /**
+     * Returns the {@code k} largest values of the given list, from the largest
+     * to the smallest. Duplicated values are kept.
+     * Time Complexity: O(n log k).
+     * Space Complexity: O(k).
+     *
+     * @param list the list whose values are selected.
+     * @param k the number of values to be selected.
+     * @return up to {@code k} values, fewer if the list is smaller.
+     * @throws IllegalStateException if {@code k} is bellow zero.
+     */
+    public static int[] topK(List list, int k) {
+        return topK(list, k, IntComparator.NATURAL);
+    }
+
+    /**
+     * Returns the {@code k} greatest values of the given list according to the
+     * given comparator, from the greatest to the least. A bounded min-heap
+     * keeps the best {@code k} values seen so far, so each remaining value
+     * costs a single comparison against its top unless it has to replace it.
+     * Time Complexity: O(n log k).
+     * Space Complexity: O(k).
+     *
+     * @param list the list whose values are selected.
+     * @param k the number of values to be selected.
+     * @param comparator the order the values are ranked by.
+     * @return up to {@code k} values, fewer if the list is smaller.
+     * @throws IllegalStateException if {@code k} is bellow zero.
+     */
+    public static int[] topK(List list, int k, IntComparator comparator) {
+        if(k < 0) {
+            throw new IllegalStateException(
+                "The number of values can't be less than zero!");
+        }
+        int limit = Math.min(k, list.size());
+        IntHeap heap = new IntBinaryHeap(limit, comparator);
+        if(limit > 0) {
+            list.forEach(value -> {
+                if(heap.size() < limit) {
+                    heap.add(value);
+                } else if(comparator.compare(value, heap.peek()) > 0) {
+                    heap.replace(value);
+                }
+            });
+        }
+        int[] top = new int[heap.size()];
+        for(int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.remove();
+        }
+        return top;
+    }
+}
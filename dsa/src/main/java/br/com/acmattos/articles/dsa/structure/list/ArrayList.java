@@ -1,11 +1,16 @@
 package br.com.acmattos.articles.dsa.structure.list;
 
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 
 /**
  * Resizable-array implementation of the {@code List} interface.
  */
-public class ArrayList implements List {
+public class ArrayList implements List, MemoryMeasurable {
     private static final int DEFAULT_CAPACITY = 10;
     private int[] array;
     private int size;
@@ -160,18 +165,21 @@ public class ArrayList implements List {
     }
 
     /**
-     * Resize the current list.
+     * Resize the current list, growing its capacity by half (plus one, so an
+     * empty array can grow too). Growing geometrically keeps a sequence of
+     * appends at an amortized O(1) each.
      * Time Complexity: O(n).
-     * Space Complexity: O(2n + 1) => O(n).
+     * Space Complexity: O(2.5n + 1) => O(n).
      *
      * @throws IllegalStateException if the array exceeds its max capacity.
      */
     private void resize() {
-        if(capacity + 1 < 0) {
+        if(capacity == Integer.MAX_VALUE) {
             throw new IllegalStateException(
                 "The array exceeds its max capacity!");
         }
-        capacity = capacity + 1;
+        int grown = capacity + (capacity >> 1) + 1;
+        capacity = grown < 0 ? Integer.MAX_VALUE : grown;
         int[] copy = new int[capacity];
         System.arraycopy(array, 0, copy, 0, size);
         this.array = copy;
@@ -295,6 +303,33 @@ public class ArrayList implements List {
         }
         return false;
     }
+
+    /**
+     * Performs the given action for each value of this list, in encounter
+     * order.
+     * Time Complexity: O(n).
+     *
+     * @param action the action to be performed for each value.
+     */
+    @Override
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this list. The unused
+     * capacity of the array is reported as slack.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this list.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 1, 2, 0)
+            .plus(MemoryLayout.intArray(size, array.length));
+    }
     // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
     @Override
     public String toString() {
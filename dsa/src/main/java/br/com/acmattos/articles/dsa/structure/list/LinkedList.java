@@ -1,11 +1,16 @@
 package br.com.acmattos.articles.dsa.structure.list;
 
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 
 /**
  * Linked List implementation of the {@code List} interface.
  */
-public class LinkedList implements List {
+public class LinkedList implements List, MemoryMeasurable {
     private Node head;
     private Node tail;
     private int size;
@@ -318,6 +323,35 @@ public class LinkedList implements List {
         }
         return false;
     }
+
+    /**
+     * Performs the given action for each value of this list, in encounter
+     * order, walking the nodes instead of looking each position up.
+     * Time Complexity: O(n).
+     *
+     * @param action the action to be performed for each value.
+     */
+    @Override
+    public void forEach(IntConsumer action) {
+        Node temp = head;
+        while (temp != null) {
+            action.accept(temp.value);
+            temp = temp.next;
+        }
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this list: the list
+     * itself plus one node (header, value and next reference) per value.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this list.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 2, 1, 0)
+            .plus(MemoryLayout.instance(Integer.BYTES, 1, 1, 0).times(size));
+    }
     // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
     @Override
     public String toString() {
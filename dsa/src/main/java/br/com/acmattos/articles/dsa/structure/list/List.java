@@ -1,6 +1,7 @@
 package br.com.acmattos.articles.dsa.structure.list;
 
 import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 
 /**
  * In the context of data structures, a list typically refers to a linear data
@@ -171,5 +172,20 @@ public interface List {
      * @return {@code true} if this list contains the specified value.
      */
     boolean contains(int value);
+
+    /**
+     * Performs the given action for each value of this list, in encounter
+     * order.
+     * The default implementation reads every position through {@code get()},
+     * so implementations without constant-time positional access should
+     * override it with a sequential traversal.
+     *
+     * @param action the action to be performed for each value.
+     */
+    default void forEach(IntConsumer action) {
+        for (int i = 0; i < size(); i++) {
+            action.accept(get(i));
+        }
+    }
     // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
 }
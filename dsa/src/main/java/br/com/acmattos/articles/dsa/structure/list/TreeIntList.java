@@ -0,0 +1,505 @@
+package br.com.acmattos.articles.dsa.structure.list;
+
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Implicit treap implementation of the {@code List} interface.
+ * <p>
+ * Values are kept in a randomized balanced binary tree ordered by position
+ * instead of by value: each node stores the size of its subtree, so the
+ * position of a node is the size of everything to its left. This keeps every
+ * positional operation, as well as splitting or concatenating whole lists, at
+ * an expected O(log n), at the price of a bigger node than the linked lists.
+ */
+public class TreeIntList implements List, MemoryMeasurable {
+    private Node root;
+
+    private static class Node {
+        int value;
+        int priority;
+        int size = 1;
+        Node left;
+        Node right;
+        Node(int value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Construct a tree list.
+     */
+    public TreeIntList() {
+    }
+
+    private TreeIntList(Node root) {
+        this.root = root;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvv Positional Access Operations vvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the value at the specified position in this list.
+     * Time Complexity: O(log n).
+     *
+     * @param index index of the value to return.
+     * @return the value at the specified position in this list.
+     * @throws IndexOutOfBoundsException if the index is out of range:
+     *         ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public int get(int index) {
+        if(index < 0 || index >= size()) {
+            throwIndexOutOfBoundsException(index);
+        }
+        return getNode(index).value;
+    }
+
+    /**
+     * Gets the first value on this list.
+     * Time Complexity: O(log n).
+     *
+     * @return the first value.
+     * @throws IndexOutOfBoundsException if this list is empty.
+     */
+    @Override
+    public int getFirst() {
+        return get(0);
+    }
+
+    /**
+     * Gets the last value on this list.
+     * Time Complexity: O(log n).
+     *
+     * @return the last value.
+     * @throws IndexOutOfBoundsException if this list is empty.
+     */
+    @Override
+    public int getLast() {
+        return get(size() - 1);
+    }
+
+    /**
+     * Replaces the current value at the specified position in this list with
+     * the given value.
+     * Time Complexity: O(log n).
+     *
+     * @param index index of the value to replace.
+     * @param value value to be stored at the {@code index}ed position.
+     * @return the value previously stored at the {@code index}ed position.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public int set(int index, int value) {
+        if(index < 0 || index >= size()) {
+            throwIndexOutOfBoundsException(index);
+        }
+        Node temp = getNode(index);
+        int oldValue = temp.value;
+        temp.value = value;
+        return oldValue;
+    }
+
+    /**
+     * Time Complexity: O(log n)
+     *
+     * @param index index of the node.
+     * @return The node found.
+     */
+    private Node getNode(int index) {
+        Node temp = root;
+        while(true) {
+            int leftSize = size(temp.left);
+            if(index < leftSize) {
+                temp = temp.left;
+            } else if(index > leftSize) {
+                index -= leftSize + 1;
+                temp = temp.right;
+            } else {
+                return temp;
+            }
+        }
+    }
+
+    private void throwIndexOutOfBoundsException(int index) {
+        throw new IndexOutOfBoundsException(
+            "Index out of bounds: " + index + ", size: " + size());
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^ Positional Access Operations ^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Adds the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right (adds one to their indices).
+     * Time Complexity: O(log n).
+     *
+     * @param index index at which the specified value is to be inserted.
+     * @param value the value to be added.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index > size()})
+     */
+    @Override
+    public void add(int index, int value) {
+        if(index < 0 || index > size()) {
+            throwIndexOutOfBoundsException(index);
+        }
+        Node added = new Node(value, ThreadLocalRandom.current().nextInt());
+        root = insert(root, index, added);
+    }
+
+    /**
+     * Adds a value as the first value of this list.
+     * After this operation completes normally, the given value will be a member
+     * of this list, and it will be the first value in encounter order.
+     * Time Complexity: O(log n).
+     *
+     * @param value the value to be added.
+     */
+    @Override
+    public void addFirst(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Adds a value as the last value of this list.
+     * After this operation completes normally, the given value will be a member
+     * of this list, and it will be the last value in encounter order.
+     * Time Complexity: O(log n).
+     *
+     * @param value the value to be added.
+     */
+    @Override
+    public void add(int value) {
+        add(size(), value);
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left (subtracts one
+     * from their indices). Returns the value that was removed from the list.
+     * Time Complexity: O(log n).
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index >= size()})
+     */
+    @Override
+    public int remove(int index) {
+        if(index < 0 || index >= size()) {
+            throwIndexOutOfBoundsException(index);
+        }
+        int value = getNode(index).value;
+        root = delete(root, index);
+        return value;
+    }
+
+    /**
+     * Removes and returns the first value of this list (optional operation).
+     * Time Complexity: O(log n).
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if the list is empty.
+     */
+    @Override
+    public int removeFirst() {
+        if(root == null) {
+            throw new NoSuchElementException("The list is empty!");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Removes and returns the last value of this list (optional operation).
+     * Time Complexity: O(log n).
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public int remove() {
+        if(root == null) {
+            throw new NoSuchElementException("The list is empty!");
+        }
+        return remove(size() - 1);
+    }
+
+    /**
+     * Removes all the values from this list by dropping the root of the tree.
+     * The list will be considered empty after this call returns.
+     * Time Complexity: O(1).
+     */
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Splits this list at the specified position. This list keeps the values
+     * before {@code index} and the values from {@code index} onwards are moved
+     * to the returned list.
+     * Time Complexity: O(log n).
+     *
+     * @param index index of the first value to be moved.
+     * @return a new list holding the values from {@code index} onwards.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index > size()})
+     */
+    public TreeIntList split(int index) {
+        if(index < 0 || index > size()) {
+            throwIndexOutOfBoundsException(index);
+        }
+        Node[] parts = new Node[2];
+        split(root, index, parts);
+        root = parts[0];
+        return new TreeIntList(parts[1]);
+    }
+
+    /**
+     * Appends every value of the given list to the end of this list, in
+     * encounter order. The given list will be empty after this call returns.
+     * Time Complexity: O(log n + log m).
+     *
+     * @param other the list whose values are to be moved to this list.
+     * @throws IllegalArgumentException if the given list is this list.
+     */
+    public void concat(TreeIntList other) {
+        if(other == this) {
+            throw new IllegalArgumentException(
+                "A list can't be concatenated with itself!");
+        }
+        root = merge(root, other.root);
+        other.root = null;
+    }
+
+    /**
+     * Inserts the node at the given position of the subtree, rotating it up
+     * through a split as soon as its priority wins.
+     */
+    private Node insert(Node node, int index, Node added) {
+        if(node == null) {
+            return added;
+        }
+        if(added.priority > node.priority) {
+            Node[] parts = new Node[2];
+            split(node, index, parts);
+            added.left = parts[0];
+            added.right = parts[1];
+            update(added);
+            return added;
+        }
+        int leftSize = size(node.left);
+        if(index <= leftSize) {
+            node.left = insert(node.left, index, added);
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, added);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Deletes the node at the given position of the subtree, replacing it by
+     * the merge of its children.
+     */
+    private Node delete(Node node, int index) {
+        int leftSize = size(node.left);
+        if(index < leftSize) {
+            node.left = delete(node.left, index);
+        } else if(index > leftSize) {
+            node.right = delete(node.right, index - leftSize - 1);
+        } else {
+            Node merged = merge(node.left, node.right);
+            node.left = null;
+            node.right = null;
+            return merged;
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Splits the subtree so that {@code parts[0]} holds its first
+     * {@code index} values and {@code parts[1]} holds the remaining ones.
+     */
+    private static void split(Node node, int index, Node[] parts) {
+        if(node == null) {
+            parts[0] = null;
+            parts[1] = null;
+            return;
+        }
+        int leftSize = size(node.left);
+        if(index <= leftSize) {
+            split(node.left, index, parts);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+        } else {
+            split(node.right, index - leftSize - 1, parts);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+        }
+    }
+
+    /**
+     * Merges two subtrees, keeping every value of {@code left} before the
+     * values of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if(left == null) {
+            return right;
+        }
+        if(right == null) {
+            return left;
+        }
+        if(left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns {@code true} if this list contains no values.
+     *
+     * @return {@code true} if this list contains no values
+     */
+    @Override
+    public boolean isEmpty(){
+        return root == null;
+    }
+
+    /**
+     * Returns {@code true} if this list contains the specified value.
+     * More formally, returns {@code true} if and only if this list contains
+     * at least one value.
+     * Time Complexity: O(n).
+     *
+     * @param value the value whose presence in this list is to be tested.
+     * @return {@code true} if this list contains the specified value.
+     */
+    @Override
+    public boolean contains(int value) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while(iterator.hasNext()) {
+            if(iterator.nextInt() == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an iterator over the values of this list, in encounter order.
+     * The iterator walks the tree in order, keeping only the path to the
+     * current node, so a full iteration costs O(n) and O(log n) of space.
+     *
+     * @return an in-order iterator over the values of this list.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final Deque<Node> path = pushLeft(new ArrayDeque<>(), root);
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public int nextInt() {
+                if(path.isEmpty()) {
+                    throw new NoSuchElementException("No more values!");
+                }
+                Node current = path.pop();
+                pushLeft(path, current.right);
+                return current.value;
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each value of this list, in encounter
+     * order.
+     * Time Complexity: O(n).
+     *
+     * @param action the action to be performed for each value.
+     */
+    @Override
+    public void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while(iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+        }
+    }
+
+    private static Deque<Node> pushLeft(Deque<Node> path, Node node) {
+        while(node != null) {
+            path.push(node);
+            node = node.left;
+        }
+        return path;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this list: the list
+     * itself plus one node (header, value, priority, subtree size, left and
+     * right references) per value.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this list.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 1, 0, 0)
+            .plus(MemoryLayout.instance(Integer.BYTES, 2, 3, 0).times(size()));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+    @Override
+    public String toString() {
+        return "TreeIntList=" +
+            stringify();
+    }
+
+    private String stringify() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(value -> sb.append(value).append(", "));
+        if(root != null) {
+            return sb.substring(0, sb.lastIndexOf(", ")) + "]";
+        }
+        return sb + "]";
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.acmattos.articles.dsa.structure.memory;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Object layout model of the running JVM, used to estimate footprints.
+ * <p>
+ * An object takes a header (mark word plus class pointer), its fields and
+ * padding up to the object alignment; an array also stores its length in the
+ * header. The header and reference sizes depend on whether class pointers and
+ * ordinary object pointers are compressed, which is read from the HotSpot
+ * flags when available and otherwise assumed (the 64-bit default for heaps
+ * under 32 GB).
+ */
+public final class MemoryLayout {
+    private static final int MARK_WORD = 8;
+    /** Bytes every object size is rounded up to. */
+    public static final int OBJECT_ALIGNMENT =
+        intFlag("ObjectAlignmentInBytes", 8);
+    /** Bytes of an object header: mark word plus class pointer. */
+    public static final int OBJECT_HEADER =
+        MARK_WORD + (booleanFlag("UseCompressedClassPointers", true) ? 4 : 8);
+    /** Bytes of an array header: object header plus length. */
+    public static final int ARRAY_HEADER = OBJECT_HEADER + Integer.BYTES;
+    /** Bytes of a reference field. */
+    public static final int REFERENCE =
+        booleanFlag("UseCompressedOops", true) ? 4 : 8;
+
+    private MemoryLayout() {
+    }
+
+    /**
+     * Estimates the footprint of a single object.
+     *
+     * @param payloadBytes bytes of its fields holding values of the structure.
+     * @param references number of reference fields.
+     * @param ints number of {@code int} fields, payload included.
+     * @param longs number of {@code long} fields.
+     * @return the footprint of the object.
+     */
+    public static MemoryStats instance(int payloadBytes, int references,
+                                       int ints, int longs) {
+        long narrow = (long) references * REFERENCE + (long) ints * Integer.BYTES;
+        long size = OBJECT_HEADER;
+        if(longs > 0 && size % Long.BYTES != 0) {
+            // Narrow fields fill the gap before the first long, if any.
+            long gap = Long.BYTES - size % Long.BYTES;
+            long filled = Math.min(gap, narrow - narrow % Integer.BYTES);
+            size += gap;
+            narrow -= filled;
+        }
+        size += (long) longs * Long.BYTES + narrow;
+        return new MemoryStats(payloadBytes, 0, 1, OBJECT_HEADER, align(size));
+    }
+
+    /**
+     * Estimates the footprint of an {@code int[]}.
+     *
+     * @param used number of slots holding values of the structure.
+     * @param length length of the array.
+     * @return the footprint of the array.
+     */
+    public static MemoryStats intArray(int used, int length) {
+        return new MemoryStats(
+            (long) used * Integer.BYTES,
+            (long) (length - used) * Integer.BYTES,
+            1,
+            ARRAY_HEADER,
+            align(ARRAY_HEADER + (long) length * Integer.BYTES));
+    }
+
+    /**
+     * Estimates the footprint of an {@code int[]} used for bookkeeping only,
+     * which holds neither payload nor slack.
+     *
+     * @param length length of the array.
+     * @return the footprint of the array.
+     */
+    public static MemoryStats intArray(int length) {
+        return new MemoryStats(0, 0, 1, ARRAY_HEADER,
+            align(ARRAY_HEADER + (long) length * Integer.BYTES));
+    }
+
+    /**
+     * Rounds a size up to the object alignment.
+     *
+     * @param size the size in bytes.
+     * @return the aligned size in bytes.
+     */
+    public static long align(long size) {
+        return (size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT * OBJECT_ALIGNMENT;
+    }
+
+    private static boolean booleanFlag(String name, boolean fallback) {
+        String value = flag(name);
+        return value == null ? fallback : Boolean.parseBoolean(value);
+    }
+
+    private static int intFlag(String name, int fallback) {
+        String value = flag(name);
+        return value == null ? fallback : Integer.parseInt(value);
+    }
+
+    private static String flag(String name) {
+        try {
+            return ManagementFactory
+                .getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                .getVMOption(name)
+                .getValue();
+        } catch (RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.acmattos.articles.dsa.structure.memory;
+
+/**
+ * A data structure able to report its own memory footprint.
+ */
+public interface MemoryMeasurable {
+    /**
+     * Returns an estimate of the memory retained by this structure, computed
+     * from its shape (sizes, capacities, node counts) and the layout of the
+     * running JVM. Nothing is traversed, so the cost is independent of the
+     * number of values unless stated otherwise.
+     *
+     * @return the memory footprint of this structure.
+     */
+    MemoryStats footprint();
+}
@@ -0,0 +1,66 @@
+package br.com.acmattos.articles.dsa.structure.memory;
+
+/**
+ * Memory footprint of a data structure, as estimated by {@link MemoryLayout}.
+ *
+ * @param payloadBytes bytes holding the values stored in the structure.
+ * @param slackBytes bytes allocated for values but currently unused (e.g.,
+ *                   the spare capacity of an array).
+ * @param objectCount number of objects the structure is made of, including
+ *                    itself.
+ * @param headerBytes bytes spent on object and array headers.
+ * @param totalBytes total bytes retained by the structure, including every
+ *                   header, reference, bookkeeping field and alignment gap.
+ */
+public record MemoryStats(
+    long payloadBytes,
+    long slackBytes,
+    long objectCount,
+    long headerBytes,
+    long totalBytes) {
+
+    /**
+     * Footprint of nothing at all.
+     */
+    public static final MemoryStats EMPTY = new MemoryStats(0, 0, 0, 0, 0);
+
+    /**
+     * Returns the bytes spent on anything but payload: slack, headers,
+     * references, bookkeeping fields and alignment.
+     *
+     * @return the overhead of the structure in bytes.
+     */
+    public long overheadBytes() {
+        return totalBytes - payloadBytes;
+    }
+
+    /**
+     * Returns the footprint of this structure together with another one.
+     *
+     * @param other the footprint to be added.
+     * @return the combined footprint.
+     */
+    public MemoryStats plus(MemoryStats other) {
+        return new MemoryStats(
+            payloadBytes + other.payloadBytes,
+            slackBytes + other.slackBytes,
+            objectCount + other.objectCount,
+            headerBytes + other.headerBytes,
+            totalBytes + other.totalBytes);
+    }
+
+    /**
+     * Returns the footprint of {@code count} copies of this structure.
+     *
+     * @param count the number of copies.
+     * @return the multiplied footprint.
+     */
+    public MemoryStats times(long count) {
+        return new MemoryStats(
+            payloadBytes * count,
+            slackBytes * count,
+            objectCount * count,
+            headerBytes * count,
+            totalBytes * count);
+    }
+}
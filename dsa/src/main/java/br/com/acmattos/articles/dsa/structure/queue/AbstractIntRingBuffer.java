@@ -0,0 +1,162 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded ring-buffer skeleton shared by the {@code IntQueue} implementations.
+ * <p>
+ * The buffer length is a power of two, so a slot is found by masking an
+ * ever-increasing index instead of dividing it. Producer and consumer indices
+ * live on their own cache lines: the classes below are stacked only to pad
+ * them, since the JVM lays superclass fields out before subclass fields but
+ * is free to reorder the fields declared by a single class.
+ */
+abstract class AbstractIntRingBuffer extends ConsumerPadding
+    implements IntQueue, MemoryMeasurable {
+    /** Number of {@code long} fields, padding included, above this class. */
+    protected static final int LONG_FIELDS = 52;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    protected static final VarHandle PRODUCER_INDEX;
+    protected static final VarHandle PRODUCER_LIMIT;
+    protected static final VarHandle CONSUMER_INDEX;
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(
+                ProducerFields.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(
+                ProducerFields.class, "producerLimit", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(
+                ConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected final int[] buffer;
+    protected final int mask;
+
+    /**
+     * Construct a ring buffer.
+     * @param capacity the minimum capacity of this ring buffer, rounded up to
+     *                 the next power of two.
+     * @throws IllegalStateException if the capacity is bellow one or above
+     *         {@code 2^30}.
+     */
+    protected AbstractIntRingBuffer(int capacity) {
+        if(capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalStateException(
+                "The queue capacity must be between 1 and " + MAX_CAPACITY
+                    + "!");
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new int[length];
+        this.mask = length - 1;
+        this.producerLimit = length;
+    }
+
+    protected static void checkRange(int[] values, int offset, int length) {
+        if(offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Range out of bounds: [" + offset + ", " + (offset + length)
+                    + "), length: " + values.length);
+        }
+    }
+
+    /**
+     * Copies values into the ring, starting at the slot of the given index and
+     * wrapping around the end of the buffer if needed.
+     */
+    protected void copyIn(long index, int[] values, int offset, int count) {
+        int slot = (int) index & mask;
+        int first = Math.min(count, buffer.length - slot);
+        System.arraycopy(values, offset, buffer, slot, first);
+        System.arraycopy(values, offset + first, buffer, 0, count - first);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the number of values in this queue. With concurrent producers
+     * and consumers the result is only an estimate.
+     * Time Complexity: O(1).
+     *
+     * @return the number of values in this queue.
+     */
+    @Override
+    public int size() {
+        long consumer = (long) CONSUMER_INDEX.getAcquire(this);
+        long producer = (long) PRODUCER_INDEX.getAcquire(this);
+        return (int) Math.max(0, Math.min(producer - consumer, buffer.length));
+    }
+
+    /**
+     * Returns {@code true} if this queue contains no values.
+     * Time Complexity: O(1).
+     *
+     * @return {@code true} if this queue contains no values.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of values this queue can hold.
+     *
+     * @return the capacity of this queue.
+     */
+    @Override
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this queue. Free slots of
+     * the ring are reported as slack, and the cache line padding around the
+     * indices as overhead.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this queue.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 1, 1, LONG_FIELDS)
+            .plus(MemoryLayout.intArray(size(), buffer.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
+
+abstract class ProducerPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class ProducerFields extends ProducerPadding {
+    /** Next index to be written, only advanced by producers. */
+    long producerIndex;
+    /** Producer side cache of {@code consumerIndex + capacity}. */
+    long producerLimit;
+}
+
+abstract class IndexPadding extends ProducerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p30, p31, p32, p33, p34, p35, p36, p37;
+}
+
+abstract class ConsumerFields extends IndexPadding {
+    /** Next index to be read, only advanced by the consumer. */
+    long consumerIndex;
+    /** Consumer side cache of {@code producerIndex}. */
+    long consumerLimit;
+}
+
+abstract class ConsumerPadding extends ConsumerFields {
+    long p40, p41, p42, p43, p44, p45, p46, p47;
+    long p50, p51, p52, p53, p54, p55, p56, p57;
+}
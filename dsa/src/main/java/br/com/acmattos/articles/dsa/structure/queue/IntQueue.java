@@ -0,0 +1,104 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * In the context of data structures, a queue is a linear data structure that
+ * hands values over in First-In-First-Out (FIFO) order. Here are some common
+ * characteristics associated with queues in data structures:
+ * <ul>
+ *  <li>{@code FIFO Order}: Values are removed in the same order they were
+ *      offered, so the oldest value is always the next one to leave.</li>
+ *  <li>{@code Two Ends}: Values enter at the tail and leave from the head.
+ *      Neither end allows positional access to the values in between.</li>
+ *  <li>{@code Bounded Capacity}: Bounded queues refuse new values when full
+ *      instead of growing, which applies back-pressure to producers and lets
+ *      the storage be allocated once.</li>
+ *  <li>{@code Producer/Consumer Handoff}: Queues are the usual way to pass work
+ *      between threads. Which threads may offer and which may poll depends on
+ *      the implementation (e.g., single producer, multiple producers).</li>
+ *  <li>{@code Batching}: Offering or draining several values at once lets an
+ *      implementation publish its indices once per batch instead of once per
+ *      value.</li>
+ * </ul>
+ */
+public interface IntQueue {
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Offers a value at the tail of this queue.
+     *
+     * @param value the value to be offered.
+     * @return {@code true} if the value was added, {@code false} if this queue
+     *         is full.
+     */
+    boolean offer(int value);
+
+    /**
+     * Offers as many values of the given array as fit in this queue, in array
+     * order.
+     *
+     * @param values the values to be offered.
+     * @return the number of values added, from {@code 0} to
+     *         {@code values.length}.
+     */
+    default int offer(int[] values) {
+        return offer(values, 0, values.length);
+    }
+
+    /**
+     * Offers as many values of the given array range as fit in this queue, in
+     * array order.
+     *
+     * @param values the array holding the values to be offered.
+     * @param offset index of the first value to be offered.
+     * @param length number of values to be offered.
+     * @return the number of values added, from {@code 0} to {@code length}.
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     *         bounds.
+     */
+    int offer(int[] values, int offset, int length);
+
+    /**
+     * Removes and returns the value at the head of this queue.
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this queue is empty.
+     */
+    int poll();
+
+    /**
+     * Removes up to {@code limit} values from the head of this queue, handing
+     * each of them to the given consumer in FIFO order.
+     *
+     * @param consumer the consumer receiving the removed values.
+     * @param limit the maximum number of values to be removed.
+     * @return the number of values removed.
+     */
+    int drain(IntConsumer consumer, int limit);
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the number of values in this queue. With concurrent producers
+     * and consumers the result is only an estimate.
+     *
+     * @return the number of values in this queue.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this queue contains no values.
+     *
+     * @return {@code true} if this queue contains no values.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the maximum number of values this queue can hold.
+     *
+     * @return the capacity of this queue.
+     */
+    int capacity();
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
@@ -0,0 +1,190 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounded, lock-free, multiple-producer/single-consumer ring-buffer
+ * implementation of the {@code IntQueue} interface.
+ * <p>
+ * Any number of threads may offer, and exactly one thread may poll or drain.
+ * Producers claim slots by advancing the shared producer index with a CAS, so
+ * a slot can be claimed before its value is written. Each slot therefore has a
+ * sequence number, released by its producer once the value is in place, that
+ * tells the consumer the value is ready. Like its single-producer sibling, it
+ * allocates nothing per value.
+ */
+public class MpscIntRingBuffer extends AbstractIntRingBuffer {
+    private static final VarHandle SEQUENCE =
+        MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int[] sequences;
+
+    /**
+     * Construct a multiple-producer/single-consumer ring buffer.
+     * @param capacity the minimum capacity of this ring buffer, rounded up to
+     *                 the next power of two.
+     * @throws IllegalStateException if the capacity is bellow one or above
+     *         {@code 2^30}.
+     */
+    public MpscIntRingBuffer(int capacity) {
+        super(capacity);
+        this.sequences = new int[buffer.length];
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Offers a value at the tail of this queue. May be called by any thread.
+     * Time Complexity: O(1), retried while other producers win the claim.
+     *
+     * @param value the value to be offered.
+     * @return {@code true} if the value was added, {@code false} if this queue
+     *         is full.
+     */
+    @Override
+    public boolean offer(int value) {
+        long producer;
+        do {
+            producer = (long) PRODUCER_INDEX.getVolatile(this);
+            if(limit(producer, 1) <= producer) {
+                return false;
+            }
+        } while(!PRODUCER_INDEX.compareAndSet(this, producer, producer + 1));
+        int slot = (int) producer & mask;
+        buffer[slot] = value;
+        SEQUENCE.setRelease(sequences, slot, (int) (producer + 1));
+        return true;
+    }
+
+    /**
+     * Offers as many values of the given array range as fit in this queue, in
+     * array order. The claimed slots are contiguous, so values of one batch
+     * are never interleaved with values of other producers. May be called by
+     * any thread.
+     * Time Complexity: O(length).
+     *
+     * @param values the array holding the values to be offered.
+     * @param offset index of the first value to be offered.
+     * @param length number of values to be offered.
+     * @return the number of values added, from {@code 0} to {@code length}.
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     *         bounds.
+     */
+    @Override
+    public int offer(int[] values, int offset, int length) {
+        checkRange(values, offset, length);
+        if(length == 0) {
+            return 0;
+        }
+        long producer;
+        int count;
+        do {
+            producer = (long) PRODUCER_INDEX.getVolatile(this);
+            count = (int) Math.min(length, limit(producer, length) - producer);
+            if(count <= 0) {
+                return 0;
+            }
+        } while(!PRODUCER_INDEX.compareAndSet(this, producer, producer + count));
+        copyIn(producer, values, offset, count);
+        for (int i = 0; i < count; i++) {
+            SEQUENCE.setRelease(sequences, (int) (producer + i) & mask,
+                (int) (producer + i + 1));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first index producers can't claim yet, refreshing the cached
+     * consumer position only when the cache can't serve the {@code wanted}
+     * slots. Racing producers may overwrite each other's cache, which at worst
+     * costs one more refresh since every candidate is a valid lower bound.
+     */
+    private long limit(long producer, int wanted) {
+        long limit = (long) PRODUCER_LIMIT.getAcquire(this);
+        if(limit - producer < wanted) {
+            limit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+            PRODUCER_LIMIT.setRelease(this, limit);
+        }
+        return limit;
+    }
+
+    /**
+     * Removes and returns the value at the head of this queue. A slot already
+     * claimed by a producer that has not written its value yet is considered
+     * empty. Must only be called by the consumer thread.
+     * Time Complexity: O(1).
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this queue is empty.
+     */
+    @Override
+    public int poll() {
+        long consumer = consumerIndex;
+        int slot = (int) consumer & mask;
+        if((int) SEQUENCE.getAcquire(sequences, slot) != (int) (consumer + 1)) {
+            throw new NoSuchElementException("The queue is empty!");
+        }
+        int value = buffer[slot];
+        CONSUMER_INDEX.setRelease(this, consumer + 1);
+        return value;
+    }
+
+    /**
+     * Removes up to {@code limit} values from the head of this queue, handing
+     * each of them to the given consumer in FIFO order. Draining stops at the
+     * first slot whose value is not published yet, and the drained slots are
+     * handed back to the producers once, after the whole batch was consumed.
+     * Must only be called by the consumer thread.
+     * Time Complexity: O(limit).
+     *
+     * @param consumer the consumer receiving the removed values.
+     * @param limit the maximum number of values to be removed.
+     * @return the number of values removed.
+     */
+    @Override
+    public int drain(IntConsumer consumer, int limit) {
+        long index = consumerIndex;
+        int count = 0;
+        while(count < limit) {
+            long next = index + count;
+            int slot = (int) next & mask;
+            if((int) SEQUENCE.getAcquire(sequences, slot) != (int) (next + 1)) {
+                break;
+            }
+            consumer.accept(buffer[slot]);
+            count++;
+        }
+        if(count > 0) {
+            CONSUMER_INDEX.setRelease(this, index + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this queue. Free slots of
+     * the ring are reported as slack, and the slot sequences and the cache
+     * line padding around the indices as overhead.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this queue.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 2, 1, LONG_FIELDS)
+            .plus(MemoryLayout.intArray(size(), buffer.length))
+            .plus(MemoryLayout.intArray(sequences.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    @Override
+    public String toString() {
+        return "MpscIntRingBuffer=[size: " + size() + ", capacity: "
+            + capacity() + "]";
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounded, lock-free, single-producer/single-consumer ring-buffer
+ * implementation of the {@code IntQueue} interface.
+ * <p>
+ * Exactly one thread may offer and exactly one (possibly other) thread may
+ * poll or drain. Values are written straight into a preallocated
+ * {@code int[]}, so the handoff allocates nothing. Each side keeps a private
+ * cache of the other side's index and only reads the shared one when the
+ * cache says the buffer is full (producer) or empty (consumer).
+ */
+public class SpscIntRingBuffer extends AbstractIntRingBuffer {
+
+    /**
+     * Construct a single-producer/single-consumer ring buffer.
+     * @param capacity the minimum capacity of this ring buffer, rounded up to
+     *                 the next power of two.
+     * @throws IllegalStateException if the capacity is bellow one or above
+     *         {@code 2^30}.
+     */
+    public SpscIntRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvv Modification Operations vvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Offers a value at the tail of this queue. Must only be called by the
+     * producer thread.
+     * Time Complexity: O(1).
+     *
+     * @param value the value to be offered.
+     * @return {@code true} if the value was added, {@code false} if this queue
+     *         is full.
+     */
+    @Override
+    public boolean offer(int value) {
+        long producer = producerIndex;
+        if(available(producer, 1) == 0) {
+            return false;
+        }
+        buffer[(int) producer & mask] = value;
+        PRODUCER_INDEX.setRelease(this, producer + 1);
+        return true;
+    }
+
+    /**
+     * Offers as many values of the given array range as fit in this queue, in
+     * array order, publishing them all at once. Must only be called by the
+     * producer thread.
+     * Time Complexity: O(length).
+     *
+     * @param values the array holding the values to be offered.
+     * @param offset index of the first value to be offered.
+     * @param length number of values to be offered.
+     * @return the number of values added, from {@code 0} to {@code length}.
+     * @throws IndexOutOfBoundsException if the range is out of the array
+     *         bounds.
+     */
+    @Override
+    public int offer(int[] values, int offset, int length) {
+        checkRange(values, offset, length);
+        long producer = producerIndex;
+        int count = available(producer, length);
+        if(count > 0) {
+            copyIn(producer, values, offset, count);
+            PRODUCER_INDEX.setRelease(this, producer + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns how many of the wanted slots are free, refreshing the cached
+     * consumer position only when the cache can't serve the request.
+     */
+    private int available(long producer, int wanted) {
+        if(producerLimit - producer < wanted) {
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + buffer.length;
+        }
+        return (int) Math.min(producerLimit - producer, wanted);
+    }
+
+    /**
+     * Removes and returns the value at the head of this queue. Must only be
+     * called by the consumer thread.
+     * Time Complexity: O(1).
+     *
+     * @return the removed value.
+     * @throws NoSuchElementException if this queue is empty.
+     */
+    @Override
+    public int poll() {
+        long consumer = consumerIndex;
+        if(ready(consumer, 1) == 0) {
+            throw new NoSuchElementException("The queue is empty!");
+        }
+        int value = buffer[(int) consumer & mask];
+        CONSUMER_INDEX.setRelease(this, consumer + 1);
+        return value;
+    }
+
+    /**
+     * Removes up to {@code limit} values from the head of this queue, handing
+     * each of them to the given consumer in FIFO order. The drained slots are
+     * handed back to the producer once, after the whole batch was consumed.
+     * Must only be called by the consumer thread.
+     * Time Complexity: O(limit).
+     *
+     * @param consumer the consumer receiving the removed values.
+     * @param limit the maximum number of values to be removed.
+     * @return the number of values removed.
+     */
+    @Override
+    public int drain(IntConsumer consumer, int limit) {
+        long index = consumerIndex;
+        int count = ready(index, Math.max(limit, 0));
+        for (int i = 0; i < count; i++) {
+            consumer.accept(buffer[(int) (index + i) & mask]);
+        }
+        if(count > 0) {
+            CONSUMER_INDEX.setRelease(this, index + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns how many of the wanted values are published, refreshing the
+     * cached producer position only when the cache can't serve the request.
+     */
+    private int ready(long consumer, int wanted) {
+        if(consumerLimit - consumer < wanted) {
+            consumerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+        }
+        return (int) Math.min(consumerLimit - consumer, wanted);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^ Modification Operations ^^^^^^^^^^^^^^^^^^^^^^^^
+
+    @Override
+    public String toString() {
+        return "SpscIntRingBuffer=[size: " + size() + ", capacity: "
+            + capacity() + "]";
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+/**
+ * Sorted array implementation of the {@code IntSearchIndex} interface.
+ * <p>
+ * Searches by plain bisection. It is the baseline the cache-friendly layouts
+ * are measured against: its first steps always hit the same few cache lines,
+ * but each of the remaining ones is likely a cache miss on large arrays.
+ */
+public class BinarySearchIntIndex implements IntSearchIndex, MemoryMeasurable {
+    private final int[] values;
+
+    /**
+     * Construct an index over the values of a sorted list.
+     * @param list the list whose values are indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public BinarySearchIntIndex(List list) {
+        this.values = SortedValues.of(list);
+    }
+
+    /**
+     * Construct an index over a copy of sorted values.
+     * @param sorted the values to be indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public BinarySearchIntIndex(int[] sorted) {
+        this.values = SortedValues.check(sorted.clone());
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the position, in sorted order, of the first value greater than
+     * or equal to the given key.
+     * Time Complexity: O(log n).
+     *
+     * @param key the key to be searched.
+     * @return the rank of the first value not less than {@code key}, or
+     *         {@code size()} if every value is less than {@code key}.
+     */
+    @Override
+    public int lowerBound(int key) {
+        int low = 0;
+        int high = values.length;
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+            if(values[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns {@code true} if this index contains the specified value.
+     * Time Complexity: O(log n).
+     *
+     * @param key the value whose presence in this index is to be tested.
+     * @return {@code true} if this index contains the specified value.
+     */
+    @Override
+    public boolean contains(int key) {
+        int rank = lowerBound(key);
+        return rank < values.length && values[rank] == key;
+    }
+
+    /**
+     * Returns the number of values in this index.
+     *
+     * @return the number of values in this index.
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this index.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this index.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 1, 0, 0)
+            .plus(MemoryLayout.intArray(values.length, values.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
@@ -0,0 +1,136 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+/**
+ * Eytzinger layout implementation of the {@code IntSearchIndex} interface.
+ * <p>
+ * The sorted values are stored as an implicit binary search tree in
+ * breadth-first order: the children of slot {@code k} are {@code 2k} and
+ * {@code 2k + 1} (slot 0 is unused). The top levels of the tree, visited by
+ * every search, share a handful of cache lines, and both children of a node
+ * sit next to each other. The descent has no data-dependent branch: the
+ * comparison result is added to the next slot, and the lower bound is
+ * recovered at the end by undoing the trailing right turns.
+ * <p>
+ * Since the layout no longer says where a value sits in sorted order, the
+ * rank of every slot is kept in a parallel array, read once per
+ * {@link #lowerBound(int)}. {@link #contains(int)} does not need it.
+ */
+public class EytzingerIntIndex implements IntSearchIndex, MemoryMeasurable {
+    private final int[] tree;
+    private final int[] ranks;
+    private final int size;
+
+    /**
+     * Construct an index over the values of a sorted list.
+     * @param list the list whose values are indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public EytzingerIntIndex(List list) {
+        this(SortedValues.of(list));
+    }
+
+    /**
+     * Construct an index over sorted values.
+     * @param sorted the values to be indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public EytzingerIntIndex(int[] sorted) {
+        SortedValues.check(sorted);
+        this.size = sorted.length;
+        this.tree = new int[size + 1];
+        this.ranks = new int[size + 1];
+        build(sorted, 0, 1);
+        this.ranks[0] = size;
+    }
+
+    /**
+     * Fills the subtree rooted at slot {@code k} with the next values in
+     * sorted order, visiting it in order.
+     * Time Complexity: O(n).
+     *
+     * @return the rank of the next value to be placed.
+     */
+    private int build(int[] sorted, int rank, int k) {
+        if(k <= size) {
+            rank = build(sorted, rank, 2 * k);
+            tree[k] = sorted[rank];
+            ranks[k] = rank++;
+            rank = build(sorted, rank, 2 * k + 1);
+        }
+        return rank;
+    }
+
+    /**
+     * Descends the tree without branching on the comparisons and returns the
+     * slot of the first value not less than {@code key}, or {@code 0} if every
+     * value is less than {@code key}.
+     * Time Complexity: O(log n).
+     */
+    private int slotOf(int key) {
+        int k = 1;
+        while(k <= size) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        // The last left turn is the answer: drop the trailing right turns
+        // (ones) and the left turn itself.
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the position, in sorted order, of the first value greater than
+     * or equal to the given key.
+     * Time Complexity: O(log n).
+     *
+     * @param key the key to be searched.
+     * @return the rank of the first value not less than {@code key}, or
+     *         {@code size()} if every value is less than {@code key}.
+     */
+    @Override
+    public int lowerBound(int key) {
+        return ranks[slotOf(key)];
+    }
+
+    /**
+     * Returns {@code true} if this index contains the specified value.
+     * Time Complexity: O(log n).
+     *
+     * @param key the value whose presence in this index is to be tested.
+     * @return {@code true} if this index contains the specified value.
+     */
+    @Override
+    public boolean contains(int key) {
+        int slot = slotOf(key);
+        return slot != 0 && tree[slot] == key;
+    }
+
+    /**
+     * Returns the number of values in this index.
+     *
+     * @return the number of values in this index.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this index. The rank of
+     * each slot is bookkeeping overhead.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this index.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 2, 1, 0)
+            .plus(MemoryLayout.intArray(size, tree.length))
+            .plus(MemoryLayout.intArray(ranks.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
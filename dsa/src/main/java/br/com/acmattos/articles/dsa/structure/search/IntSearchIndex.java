@@ -0,0 +1,50 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+/**
+ * In the context of data structures, a search index is a read-only copy of a
+ * sorted sequence of values, laid out to answer membership and ordered
+ * lookups as fast as possible. Here are some common characteristics
+ * associated with search indexes in data structures:
+ * <ul>
+ *  <li>{@code Static}: Indexes are built once from sorted values and never
+ *      modified, so their layout can be chosen for lookups alone.</li>
+ *  <li>{@code Lower Bound}: The main lookup finds the first value greater
+ *      than or equal to a key, which answers membership, predecessor and range
+ *      queries.</li>
+ *  <li>{@code Memory Layout}: A sorted array searched by bisection touches a
+ *      new cache line on almost every step once it outgrows the caches.
+ *      Layouts such as Eytzinger (BFS order) or blocked B-trees keep the
+ *      values visited together close in memory.</li>
+ *  <li>{@code Branchless Search}: Replacing the unpredictable comparison
+ *      branch by arithmetic lets the CPU run a fixed sequence of loads instead
+ *      of stalling on mispredictions.</li>
+ * </ul>
+ */
+public interface IntSearchIndex {
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the position, in sorted order, of the first value greater than
+     * or equal to the given key.
+     *
+     * @param key the key to be searched.
+     * @return the rank of the first value not less than {@code key}, or
+     *         {@code size()} if every value is less than {@code key}.
+     */
+    int lowerBound(int key);
+
+    /**
+     * Returns {@code true} if this index contains the specified value.
+     *
+     * @param key the value whose presence in this index is to be tested.
+     * @return {@code true} if this index contains the specified value.
+     */
+    boolean contains(int key);
+
+    /**
+     * Returns the number of values in this index.
+     *
+     * @return the number of values in this index.
+     */
+    int size();
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
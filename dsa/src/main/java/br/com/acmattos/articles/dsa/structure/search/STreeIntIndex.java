@@ -0,0 +1,156 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryLayout;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryMeasurable;
+import br.com.acmattos.articles.dsa.structure.memory.MemoryStats;
+
+/**
+ * Static B-tree (S-tree) implementation of the {@code IntSearchIndex}
+ * interface.
+ * <p>
+ * The sorted values are split in blocks of 16 values, one 64-byte cache line
+ * each, arranged as an implicit B-tree: block {@code k} has 17 children,
+ * {@code k * 17 + i + 1} for {@code i} from 0 to 16. A search reads one block
+ * per level, so it touches {@code log17(n)} cache lines instead of the
+ * {@code log2(n)} of a binary search. Inside a block, the position of the key
+ * is found by counting the values less than it, a fixed loop with no
+ * data-dependent branch. The last block is padded with
+ * {@code Integer.MAX_VALUE}.
+ * <p>
+ * As in {@link EytzingerIntIndex}, the rank of every slot is kept in a
+ * parallel array, read once per {@link #lowerBound(int)}.
+ */
+public class STreeIntIndex implements IntSearchIndex, MemoryMeasurable {
+    /** Number of {@code int} values in a 64-byte cache line. */
+    private static final int BLOCK = 16;
+    private final int[] tree;
+    private final int[] ranks;
+    private final int blocks;
+    private final int size;
+
+    /**
+     * Construct an index over the values of a sorted list.
+     * @param list the list whose values are indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public STreeIntIndex(List list) {
+        this(SortedValues.of(list));
+    }
+
+    /**
+     * Construct an index over sorted values.
+     * @param sorted the values to be indexed, in ascending order.
+     * @throws IllegalStateException if the values are not sorted.
+     */
+    public STreeIntIndex(int[] sorted) {
+        SortedValues.check(sorted);
+        this.size = sorted.length;
+        this.blocks = (size + BLOCK - 1) / BLOCK;
+        this.tree = new int[blocks * BLOCK];
+        this.ranks = new int[blocks * BLOCK];
+        build(sorted, 0, 0);
+    }
+
+    private static int child(int block, int i) {
+        return block * (BLOCK + 1) + i + 1;
+    }
+
+    /**
+     * Fills the subtree rooted at block {@code k} with the next values in
+     * sorted order, visiting it in order. Slots left over once every value
+     * has been placed get the padding value.
+     * Time Complexity: O(n).
+     *
+     * @return the rank of the next value to be placed.
+     */
+    private int build(int[] sorted, int rank, int k) {
+        if(k < blocks) {
+            for (int i = 0; i < BLOCK; i++) {
+                rank = build(sorted, rank, child(k, i));
+                int slot = k * BLOCK + i;
+                tree[slot] = rank < size ? sorted[rank] : Integer.MAX_VALUE;
+                ranks[slot] = rank;
+                rank = Math.min(rank + 1, size);
+            }
+            rank = build(sorted, rank, child(k, BLOCK));
+        }
+        return rank;
+    }
+
+    /**
+     * Descends the tree one block per level and returns the slot of the first
+     * value not less than {@code key}, or {@code -1} if every value is less
+     * than {@code key}.
+     * Time Complexity: O(log n).
+     */
+    private int slotOf(int key) {
+        int slot = -1;
+        int k = 0;
+        while(k < blocks) {
+            int base = k * BLOCK;
+            int i = 0;
+            for (int j = 0; j < BLOCK; j++) {
+                i += tree[base + j] < key ? 1 : 0;
+            }
+            slot = i < BLOCK ? base + i : slot;
+            k = child(k, i);
+        }
+        return slot;
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Query Operations vvvvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Returns the position, in sorted order, of the first value greater than
+     * or equal to the given key.
+     * Time Complexity: O(log n).
+     *
+     * @param key the key to be searched.
+     * @return the rank of the first value not less than {@code key}, or
+     *         {@code size()} if every value is less than {@code key}.
+     */
+    @Override
+    public int lowerBound(int key) {
+        int slot = slotOf(key);
+        return slot < 0 ? size : ranks[slot];
+    }
+
+    /**
+     * Returns {@code true} if this index contains the specified value.
+     * Time Complexity: O(log n).
+     *
+     * @param key the value whose presence in this index is to be tested.
+     * @return {@code true} if this index contains the specified value.
+     */
+    @Override
+    public boolean contains(int key) {
+        int slot = slotOf(key);
+        return slot >= 0 && ranks[slot] < size && tree[slot] == key;
+    }
+
+    /**
+     * Returns the number of values in this index.
+     *
+     * @return the number of values in this index.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by this index. The padding
+     * of the last block is reported as slack, and the rank of each slot as
+     * overhead.
+     * Time Complexity: O(1).
+     *
+     * @return the memory footprint of this index.
+     */
+    @Override
+    public MemoryStats footprint() {
+        return MemoryLayout.instance(0, 2, 2, 0)
+            .plus(MemoryLayout.intArray(size, tree.length))
+            .plus(MemoryLayout.intArray(ranks.length));
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Query Operations ^^^^^^^^^^^^^^^^^^^^^^^^^^^^
+}
@@ -0,0 +1,46 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+
+/**
+ * Copies and validates the sorted values the search indexes are built from.
+ */
+final class SortedValues {
+
+    private SortedValues() {
+    }
+
+    /**
+     * Copies the values of the given list, in encounter order.
+     *
+     * @param list the list to be copied.
+     * @return the values of the list.
+     * @throws IllegalStateException if the values are not sorted in ascending
+     *         order.
+     */
+    static int[] of(List list) {
+        int[] values = new int[list.size()];
+        int[] next = {0};
+        list.forEach(value -> values[next[0]++] = value);
+        return check(values);
+    }
+
+    /**
+     * Validates the given values.
+     *
+     * @param values the values to be validated.
+     * @return the same values.
+     * @throws IllegalStateException if the values are not sorted in ascending
+     *         order.
+     */
+    static int[] check(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if(values[i - 1] > values[i]) {
+                throw new IllegalStateException(
+                    "The values must be sorted: " + values[i - 1] + " > "
+                        + values[i] + " at index " + i + "!");
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares ways of counting actors per movie, sequentially and on parallel
+ * streams.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile -Dbenchmark=ActorCollectors -Djmh.args="-prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ActorCollectorsBenchmark {
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private List<Actor> actors;
+    private StringDictionary movies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actors = ActorGenerator.generate(size, 42);
+        movies = new StringDictionary();
+        actors.forEach(actor -> movies.intern(actor.movie()));
+    }
+
+    @Benchmark
+    public Map<String, Long> groupingByCounting() {
+        return actors.stream()
+            .collect(Collectors.groupingBy(Actor::movie, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> groupingByCountingParallel() {
+        return actors.parallelStream()
+            .collect(Collectors.groupingBy(Actor::movie, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> groupingByConcurrentCountingJdkParallel() {
+        return actors.parallelStream()
+            .collect(Collectors.groupingByConcurrent(Actor::movie,
+                Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Integer> groupingByToIntCount() {
+        return actors.stream()
+            .collect(ActorCollectors.groupingByToIntCount(Actor::movie));
+    }
+
+    @Benchmark
+    public Map<String, Integer> groupingByToIntCountParallel() {
+        return actors.parallelStream()
+            .collect(ActorCollectors.groupingByToIntCount(Actor::movie));
+    }
+
+    @Benchmark
+    public Map<String, Long> groupingByConcurrentCountingParallel() {
+        return actors.parallelStream()
+            .collect(ActorCollectors.groupingByConcurrentCounting(Actor::movie));
+    }
+
+    @Benchmark
+    public Map<String, Long> groupingByIdCountingParallel() {
+        return actors.parallelStream()
+            .collect(ActorCollectors.groupingByIdCounting(
+                actor -> movies.idOf(actor.movie()), movies::get));
+    }
+
+    @Benchmark
+    public Map<String, Long> countActorsGroupedByMovieParallelQuery() {
+        return ActorQueries.PARALLEL.countActorsGroupedByMovie(actors);
+    }
+}
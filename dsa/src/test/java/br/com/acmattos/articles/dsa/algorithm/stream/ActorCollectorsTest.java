@@ -0,0 +1,136 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorCollectorsTest {
+    static Stream<Collection<Actor>> datasets() {
+        return Stream.of(StreamExamples.getAllActors(), List.of(),
+            ActorGenerator.generate(50_000, 7));
+    }
+
+    @ParameterizedTest
+    @MethodSource("datasets")
+    void givenActorsWhenSummarizingEveryAggregateThenTheResultsMatchTheStreamQueries(
+        Collection<Actor> actors) {
+        // When
+        ActorSummary sequential = actors.stream()
+            .collect(ActorCollectors.summarizing(ActorAggregate.values()));
+        ActorSummary parallel = actors.parallelStream()
+            .collect(ActorCollectors.summarizing(ActorAggregate.values()));
+        // Then
+        for (ActorSummary summary : List.of(sequential, parallel)) {
+            assertEquals(StreamExamples.countActors(actors), summary.count());
+            assertEquals(StreamExamples.countDistinctActors(actors),
+                summary.countDistinct());
+            assertEquals(StreamExamples.getOldestActor(actors),
+                summary.oldest());
+            assertEquals(StreamExamples.getYoungestActor(actors),
+                summary.youngest());
+            assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+                summary.averageAge(), 1e-9);
+            assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+                summary.averageAgeOfDistinct(), 1e-9);
+            assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+                summary.countByMovie());
+        }
+    }
+
+    @Test
+    void givenSomeAggregatesWhenReadingAnotherOneThenAnExceptionIsThrown() {
+        // Given
+        ActorSummary summary = StreamExamples.summarizeActors(
+            StreamExamples.getAllActors(), ActorAggregate.COUNT,
+            ActorAggregate.OLDEST);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class, summary::averageAge);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The aggregate AVERAGE_AGE was not requested!",
+            throwable.getMessage());
+        assertEquals(14, summary.count());
+        assertEquals("ActorSummary=[COUNT: 14, OLDEST: Optional[Actor["
+                + "firstName=Bette, lastName=Nicholson, gender=F, "
+                + "movie=Crossroads Casualties, age=87]]]",
+            summary.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("datasets")
+    void givenActorsWhenCountingByMovieWithThePrimitiveCollectorsThenTheCountsMatchTheStreamQuery(
+        Collection<Actor> actors) {
+        // Given
+        Map<String, Long> expected =
+            StreamExamples.countActorsGroupedByMovie(actors);
+        StringDictionary movies = new StringDictionary();
+        actors.forEach(actor -> movies.intern(actor.movie()));
+        for (boolean parallel : new boolean[] {false, true}) {
+            Stream<Actor> stream = parallel
+                ? actors.parallelStream() : actors.stream();
+            Stream<Actor> concurrent = parallel
+                ? actors.parallelStream() : actors.stream();
+            Stream<Actor> byId = parallel
+                ? actors.parallelStream() : actors.stream();
+            // When
+            Map<String, Integer> intCounts = stream
+                .collect(ActorCollectors.groupingByToIntCount(Actor::movie));
+            Map<String, Long> adderCounts = concurrent.collect(
+                ActorCollectors.groupingByConcurrentCounting(Actor::movie));
+            Map<String, Long> idCounts = byId.collect(
+                ActorCollectors.groupingByIdCounting(
+                    actor -> movies.idOf(actor.movie()), movies::get));
+            // Then
+            assertEquals(expected, intCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                    entry -> (long) entry.getValue())));
+            assertEquals(expected, adderCounts);
+            assertEquals(expected, idCounts);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 100, 60_000})
+    void givenActorsWhenSelectingTheTopKThenTheResultMatchesSortingAndLimiting(
+        int k) {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(50_000, 13);
+        Comparator<Actor> byAge = Comparator.comparingInt(Actor::age);
+        // When
+        List<Actor> sequential = actors.stream()
+            .collect(ActorCollectors.topK(k, byAge));
+        List<Actor> parallel = actors.parallelStream()
+            .collect(ActorCollectors.topK(k, byAge));
+        // Then
+        List<Actor> expected = actors.stream()
+            .sorted(byAge)
+            .limit(k)
+            .collect(Collectors.toList());
+        assertEquals(expected, sequential);
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    void givenANegativeKWhenSelectingTheTopKThenAnExceptionIsThrown() {
+        // When
+        Throwable throwable = assertThrows(IllegalStateException.class,
+            () -> ActorCollectors.topK(-1, Comparator.comparingInt(Actor::age)));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The number of values can't be less than zero!",
+            throwable.getMessage());
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorDistinctTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenEqualActorsWhenFingerprintingThemThenTheFingerprintsAreEqual() {
+        // Given
+        Actor actor = new Actor("Penelope", "Guiness", "F", "Angels Life", 30);
+        Actor copy = new Actor(new String("Penelope"), "Guiness", "F",
+            "Angels Life", 30);
+        // When / Then
+        assertEquals(ActorDistinct.fingerprint(actor),
+            ActorDistinct.fingerprint(copy));
+    }
+
+    @Test
+    void givenActorsDifferingOnlyByFieldBoundariesWhenFingerprintingThemThenTheFingerprintsDiffer() {
+        // Given
+        Actor actor = new Actor("Ann", "Abel", "F", "Angels Life", 30);
+        Actor shifted = new Actor("AnnA", "bel", "F", "Angels Life", 30);
+        // When / Then
+        assertNotEquals(ActorDistinct.fingerprint(actor),
+            ActorDistinct.fingerprint(shifted));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 14, 20_000})
+    void givenActorsWhenDeduplicatingByFingerprintThenTheResultMatchesStreamDistinct(
+        int size) {
+        // Given
+        Collection<Actor> actors = size == 14
+            ? StreamExamples.getAllActors() : ActorGenerator.generate(size, 3);
+        // When
+        List<Actor> distinct = ActorDistinct.distinct(actors.stream())
+            .collect(Collectors.toList());
+        long count = ActorDistinct.countDistinct(actors.parallelStream());
+        // Then
+        assertEquals(StreamExamples.getDistinctActors(actors), distinct);
+        assertEquals(StreamExamples.countDistinctActors(actors), count);
+    }
+
+    @Test
+    void givenManyDistinctActorsWhenEstimatingTheirCountThenTheEstimateIsWithinTwoPercent() {
+        // Given
+        int size = 200_000;
+        List<Actor> actors = Stream.iterate(0, i -> i + 1).limit(size)
+            .map(i -> new Actor("First" + i, "Last" + (i % 7), "F", "Movie", i))
+            .collect(Collectors.toList());
+        // When
+        long sequential = actors.stream()
+            .collect(ActorDistinct.countingDistinctApproximately(14));
+        long parallel = actors.parallelStream()
+            .collect(ActorDistinct.countingDistinctApproximately(14));
+        // Then
+        assertEquals(size, sequential, size * 0.02);
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void givenFewActorsWhenEstimatingTheirCountThenLinearCountingIsExact() {
+        // Given
+        Collection<Actor> actors = StreamExamples.getAllActors();
+        // When
+        long estimate = ActorQueries.SEQUENTIAL
+            .countDistinctActorsApproximately(actors);
+        // Then
+        assertEquals(13, estimate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void givenActorsWhenCountingThemBySpillingToDiskThenTheCountIsExactAndNoFileIsLeft(
+        int partitions) throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 5);
+        // When
+        long count = ActorDistinct.countDistinctSpilling(actors.stream(),
+            partitions, directory);
+        // Then
+        assertEquals(StreamExamples.countDistinctActors(actors), count);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenATruncatedPartitionWhenCountingItThenAnExceptionIsThrown()
+        throws IOException {
+        // Given
+        Path partition = directory.resolve("partition.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ActorCodec.write(out, new Actor("Uma", "Wood", "F", "Clash", 20));
+            ActorCodec.write(out, new Actor("Ed", "Chase", "M", "Young", 10));
+        }
+        byte[] written = bytes.toByteArray();
+        Files.write(partition, Arrays.copyOf(written, written.length - 2));
+        // When / Then
+        assertThrows(EOFException.class,
+            () -> ActorDistinct.countDistinct(partition));
+        Files.write(partition, written);
+        assertEquals(2, ActorDistinct.countDistinct(partition));
+    }
+
+    @Test
+    void givenNoPartitionsWhenCountingBySpillingThenAnExceptionIsThrown() {
+        // When
+        Throwable throwable = assertThrows(IllegalStateException.class,
+            () -> ActorDistinct.countDistinctSpilling(Stream.empty(), 0,
+                directory));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The number of partitions can't be less than one!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnInvalidPrecisionWhenEstimatingThenAnExceptionIsThrown() {
+        // When
+        Throwable throwable = assertThrows(IllegalStateException.class,
+            () -> ActorDistinct.countingDistinctApproximately(3));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The precision must be between 4 and 18!",
+            throwable.getMessage());
+    }
+}
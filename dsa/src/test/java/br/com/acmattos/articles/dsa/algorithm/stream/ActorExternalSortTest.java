@@ -0,0 +1,143 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorExternalSortTest {
+    private static final Comparator<Actor> BY_NAME =
+        Comparator.comparing(Actor::firstName).thenComparing(Actor::lastName);
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 7_000, 20_000, 50_000})
+    void givenActorsWhenSortingThemExternallyThenTheResultMatchesTheStreamQuery(
+        int runSize) throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 67);
+        // When
+        List<Actor> sorted;
+        try (Stream<Actor> stream = ActorExternalSort.sorted(actors.stream(),
+            BY_NAME, runSize, directory)) {
+            sorted = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            sorted);
+        try (Stream<Path> runs = Files.list(directory)) {
+            assertEquals(0, runs.count());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 64})
+    void givenMoreRunsThanTheFanInWhenSortingThenRunsAreMergedInPasses(
+        int fanIn) throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(3_000, 73);
+        // When
+        List<Actor> sorted;
+        try (Stream<Actor> stream = ActorExternalSort.sorted(actors.stream(),
+            BY_NAME, 10, fanIn, directory)) {
+            sorted = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            sorted);
+        try (Stream<Path> runs = Files.list(directory)) {
+            assertEquals(0, runs.count());
+        }
+    }
+
+    @Test
+    void givenAPartiallyConsumedSortWhenClosingItThenTheRunsAreDeleted()
+        throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(5_000, 71);
+        Stream<Actor> stream = ActorExternalSort.sorted(actors.stream(),
+            Comparator.comparingInt(Actor::age), 1_000, directory);
+        try (Stream<Path> runs = Files.list(directory)) {
+            assertEquals(5, runs.count());
+        }
+        // When
+        List<Actor> youngest = stream.limit(10).collect(Collectors.toList());
+        stream.close();
+        // Then
+        assertEquals(actors.stream().sorted(Comparator.comparingInt(Actor::age))
+            .limit(10).collect(Collectors.toList()), youngest);
+        try (Stream<Path> runs = Files.list(directory)) {
+            assertEquals(0, runs.count());
+        }
+    }
+
+    @Test
+    void givenATruncatedRunWhenMergingItThenAnExceptionIsThrown()
+        throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(5_000, 79);
+        Stream<Actor> stream = ActorExternalSort.sorted(actors.stream(),
+            BY_NAME, 1_000, directory);
+        try (Stream<Path> runs = Files.list(directory)) {
+            for (Path run : runs.collect(Collectors.toList())) {
+                try (FileChannel channel =
+                         FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    channel.truncate(channel.size() - 2);
+                }
+            }
+        }
+        // When
+        UncheckedIOException exception = assertThrows(
+            UncheckedIOException.class,
+            () -> stream.collect(Collectors.toList()));
+        stream.close();
+        // Then
+        assertNotNull(exception);
+        assertInstanceOf(EOFException.class, exception.getCause());
+        try (Stream<Path> runs = Files.list(directory)) {
+            assertEquals(0, runs.count());
+        }
+    }
+
+    @Test
+    void givenNoActorsWhenSortingThemExternallyThenTheResultIsEmpty() {
+        // When
+        long count = ActorExternalSort.sorted(Stream.empty(), BY_NAME, 10,
+            directory).count();
+        // Then
+        assertEquals(0, count);
+    }
+
+    @Test
+    void givenARunSizeBellowOneWhenSortingThenAnExceptionIsThrown() {
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> ActorExternalSort.sorted(
+                Stream.empty(), BY_NAME, 0, directory));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The run size can't be less than one!",
+            exception.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible datasets shaped like {@code StreamExamples}: a few
+ * hundred names, a handful of movies and genders, and some duplicated rows.
+ */
+final class ActorGenerator {
+    private static final String[] FIRST_NAMES = {"Penelope", "Marta", "Cuba",
+        "Nick", "Jennifer", "Ed", "Bette", "Johnny", "Matthew", "Grace", "Uma",
+        "Joe", "Julia", "Jon", "Kirsten", "Zero", "Christian", "Sandra"};
+    private static final String[] LAST_NAMES = {"Guiness", "Olivier",
+        "Wahlberg", "Davis", "Chase", "Nicholson", "Lollobrigida", "Johansson",
+        "Mostel", "Wood", "Swank", "Bergen", "Cage", "Akroyd", "Tautou"};
+    private static final String[] GENDERS = {"F", "M"};
+    private static final String[] MOVIES = {"Angels Life",
+        "Bulworth Commandments", "Dracula Crystal", "Young Language",
+        "Crossroads Casualties", "Pacific Amistad", "Conquerer Nuts",
+        "Clash Freddy", "Waterfront Deliverance", "Hills Neighbors"};
+
+    private ActorGenerator() {
+    }
+
+    /**
+     * Generates {@code size} actors. About one row in ten repeats an earlier
+     * one, so distinct queries have work to do.
+     */
+    static List<Actor> generate(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Actor> actors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if(i > 0 && random.nextInt(10) == 0) {
+                actors.add(actors.get(random.nextInt(i)));
+            } else {
+                actors.add(new Actor(
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    GENDERS[random.nextInt(GENDERS.length)],
+                    MOVIES[random.nextInt(MOVIES.length)],
+                    random.nextInt(10, 90)));
+            }
+        }
+        return actors;
+    }
+}
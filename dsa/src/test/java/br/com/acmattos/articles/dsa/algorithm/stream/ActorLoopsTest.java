@@ -0,0 +1,78 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorLoopsTest {
+    static Stream<Collection<Actor>> datasets() {
+        return Stream.of(StreamExamples.getAllActors(), List.of(),
+            ActorGenerator.generate(20_000, 41));
+    }
+
+    @ParameterizedTest
+    @MethodSource("datasets")
+    void givenActorsWhenRunningEveryLoopThenTheResultsMatchTheStreamExamples(
+        Collection<Actor> actors) {
+        // When / Then
+        assertEquals(StreamExamples.countActors(actors),
+            ActorLoops.countActors(actors));
+        assertEquals(StreamExamples.countDistinctActors(actors),
+            ActorLoops.countDistinctActors(actors));
+        assertEquals(StreamExamples.getDistinctActors(actors),
+            ActorLoops.getDistinctActors(actors));
+        assertEquals(StreamExamples.getOldestActor(actors),
+            ActorLoops.getOldestActor(actors));
+        assertEquals(StreamExamples.getYoungestActor(actors),
+            ActorLoops.getYoungestActor(actors));
+        assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+            ActorLoops.getAverageAgeOfAllActors(actors), 1e-9);
+        assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+            ActorLoops.getAverageAgeOfDistinctActors(actors), 1e-9);
+        assertEquals(
+            StreamExamples.filterActorsByFirstNameStartingWith(actors, "J"),
+            ActorLoops.filterActorsByFirstNameStartingWith(actors, "J"));
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            ActorLoops.getActorsSortedByFirstNameAscAndLastNameAsc(actors));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3),
+            ActorLoops.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+                actors, 3));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9),
+            ActorLoops.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+                actors, 9));
+        assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, 50),
+            ActorLoops.getActorsWithAgeGreaterThan(actors, 50));
+        assertEquals(StreamExamples.getActorsGroupedByMovie(actors),
+            ActorLoops.getActorsGroupedByMovie(actors));
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            ActorLoops.countActorsGroupedByMovie(actors));
+        assertEquals(StreamExamples.getMoviesFromActors(actors),
+            ActorLoops.getMoviesFromActors(actors));
+        assertEquals(StreamExamples.getActorsFullNames(actors),
+            ActorLoops.getActorsFullNames(actors));
+    }
+
+    @Test
+    void givenANegativeNumberOfActorsWhenSkippingThenAnExceptionIsThrown() {
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> ActorLoops.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+                StreamExamples.getAllActors(), -1));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The number of actors can't be less than zero!",
+            exception.getMessage());
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorQueriesTest {
+    static Stream<Arguments> modesAndDatasets() {
+        List<Collection<Actor>> datasets = List.of(
+            StreamExamples.getAllActors(), List.of(),
+            ActorGenerator.generate(50_000, 11));
+        return Stream.of(ActorQueries.SEQUENTIAL, ActorQueries.PARALLEL)
+            .flatMap(queries -> datasets.stream()
+                .map(actors -> Arguments.of(queries, actors)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("modesAndDatasets")
+    void givenAModeWhenRunningEveryQueryThenTheResultsMatchTheStreamExamples(
+        ActorQueries queries, Collection<Actor> actors) {
+        // When / Then
+        assertEquals(StreamExamples.countActors(actors),
+            queries.countActors(actors));
+        assertEquals(StreamExamples.countDistinctActors(actors),
+            queries.countDistinctActors(actors));
+        assertEquals(StreamExamples.getDistinctActors(actors),
+            queries.getDistinctActors(actors));
+        assertEquals(StreamExamples.getOldestActor(actors),
+            queries.getOldestActor(actors));
+        assertEquals(StreamExamples.getYoungestActor(actors),
+            queries.getYoungestActor(actors));
+        assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+            queries.getAverageAgeOfAllActors(actors), 1e-9);
+        assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+            queries.getAverageAgeOfDistinctActors(actors), 1e-9);
+        assertEquals(
+            StreamExamples.filterActorsByFirstNameStartingWith(actors, "J"),
+            queries.filterActorsByFirstNameStartingWith(actors, "J"));
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            queries.getActorsSortedByFirstNameAscAndLastNameAsc(actors));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3),
+            queries.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(
+                actors, 3));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9),
+            queries.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(
+                actors, 9));
+        assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, 50),
+            queries.getActorsWithAgeGreaterThan(actors, 50));
+        assertEquals(StreamExamples.getActorsGroupedByMovie(actors),
+            queries.getActorsGroupedByMovie(actors));
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            queries.countActorsGroupedByMovie(actors));
+        assertEquals(StreamExamples.getMoviesFromActors(actors),
+            queries.getMoviesFromActors(actors));
+        assertEquals(StreamExamples.getActorsFullNames(actors),
+            queries.getActorsFullNames(actors));
+        StringWriter names = new StringWriter();
+        queries.writeActorsFullNames(actors, names);
+        assertEquals(StreamExamples.getActorsFullNames(actors),
+            names.toString());
+        assertEquals(StreamExamples.summarizeActors(actors,
+                ActorAggregate.values()).toString(),
+            queries.summarizeActors(actors, ActorAggregate.values()).toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void givenANegativeNumberOfActorsWhenLimitingOrSkipingThenAnExceptionIsThrown(
+        boolean parallel) {
+        // Given
+        ActorQueries queries =
+            parallel ? ActorQueries.PARALLEL : ActorQueries.SEQUENTIAL;
+        Collection<Actor> actors = StreamExamples.getAllActors();
+        // When
+        IllegalStateException limited = assertThrows(
+            IllegalStateException.class, () -> queries
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, -1));
+        IllegalStateException skipped = assertThrows(
+            IllegalStateException.class, () -> queries
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, -1));
+        // Then
+        assertNotNull(limited);
+        assertEquals("The number of actors can't be less than zero!",
+            limited.getMessage());
+        assertNotNull(skipped);
+        assertEquals("The number of actors can't be less than zero!",
+            skipped.getMessage());
+    }
+}
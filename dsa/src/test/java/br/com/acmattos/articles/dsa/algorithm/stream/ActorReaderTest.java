@@ -0,0 +1,218 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActorReaderTest {
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(ActorFormat.class)
+    void givenAFileWhenReadingItSequentiallyThenEveryActorIsReadInFileOrder(
+        ActorFormat format) throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 19);
+        Path file = write(format, actors);
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream = ActorReader.read(file, format)) {
+            read = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(actors, read);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ActorFormat.class)
+    void givenAFileWhenReadingItInParallelChunksThenEveryActorIsReadInFileOrder(
+        ActorFormat format) throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(5_000, 23);
+        Path file = write(format, actors);
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream = ActorReader.read(file, format, 64)) {
+            read = stream.parallel().collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(actors, read);
+    }
+
+    @Test
+    void givenAFileWhenReadingItWithADictionaryThenEqualStringsAreShared()
+        throws IOException {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(5_000, 43);
+        Path file = write(ActorFormat.CSV, actors);
+        StringDictionary strings = new StringDictionary();
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream = ActorReader.read(file, ActorFormat.CSV,
+            strings)) {
+            read = stream.parallel().collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(actors, read);
+        for (Actor actor : read) {
+            assertSame(strings.get(strings.idOf(actor.movie())), actor.movie());
+            assertSame(strings.get(strings.idOf(actor.firstName())),
+                actor.firstName());
+        }
+    }
+
+    @Test
+    void givenAFileWhenReadingItIntoATableThenTheTableHoldsEveryActor()
+        throws IOException {
+        // Given
+        List<Actor> actors = new ArrayList<>(StreamExamples.getAllActors());
+        Path file = write(ActorFormat.CSV_WITH_HEADER, actors);
+        // When
+        ActorTable sequential =
+            ActorReader.readTable(file, ActorFormat.CSV_WITH_HEADER, false);
+        ActorTable parallel =
+            ActorReader.readTable(file, ActorFormat.CSV_WITH_HEADER, true);
+        // Then
+        assertEquals(actors, sequential.stream().collect(Collectors.toList()));
+        assertEquals(actors, parallel.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenFieldsNeedingQuotesOrEscapesWhenReadingThemBackThenTheyAreUnchanged()
+        throws IOException {
+        // Given
+        List<Actor> actors = List.of(
+            new Actor("Ann, \"Jr\"", "O'Hara", "F", "Angels\tLife", -1),
+            new Actor("Zoë", "Ångström", "F", "Crème \\ Brûlée", 2147483647));
+        for (ActorFormat format : ActorFormat.values()) {
+            Path file = write(format, actors);
+            // When
+            List<Actor> read;
+            try (Stream<Actor> stream = ActorReader.read(file, format)) {
+                read = stream.collect(Collectors.toList());
+            }
+            // Then
+            assertEquals(actors, read, format::name);
+        }
+    }
+
+    @Test
+    void givenFieldsHoldingLineBreaksWhenWritingAndReadingThemBackThenJsonKeepsThemAndCsvRejectsThem()
+        throws IOException {
+        // Given
+        List<Actor> actors = List.of(
+            new Actor("Ann\nMarie", "Wood", "F", "Clash Freddy", 20),
+            new Actor("Ed", "Chase\r", "M", "Young\r\nLanguage", 10));
+        Path file = write(ActorFormat.JSON_LINES, actors);
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream =
+                 ActorReader.read(file, ActorFormat.JSON_LINES)) {
+            read = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(actors, read);
+        for (Actor actor : actors) {
+            for (ActorFormat format : List.of(ActorFormat.CSV,
+                ActorFormat.CSV_WITH_HEADER)) {
+                Throwable throwable = assertThrows(IllegalStateException.class,
+                    () -> format.format(actor));
+                assertNotNull(throwable);
+                assertTrue(throwable.getMessage()
+                    .startsWith("CSV fields can't hold line breaks: "));
+            }
+        }
+    }
+
+    @Test
+    void givenCrlfLineBreaksBlankLinesAndUnknownJsonKeysWhenReadingThenTheyAreIgnored()
+        throws IOException {
+        // Given
+        Path file = directory.resolve("actors.jsonl");
+        Files.writeString(file, "{ \"age\" : 30, \"id\": 7, \"firstName\": "
+            + "\"Uma\", \"lastName\":\"Wood\",\"gender\":\"F\",\"movie\":"
+            + "\"Clash Freddy\", \"tags\": null}\r\n\r\n"
+            + "{\"firstName\":\"Ed\",\"lastName\":\"Chase\",\"gender\":\"M\","
+            + "\"movie\":\"Young\\u0020Language\",\"age\":10}");
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream =
+                 ActorReader.read(file, ActorFormat.JSON_LINES)) {
+            read = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(List.of(
+            new Actor("Uma", "Wood", "F", "Clash Freddy", 30),
+            new Actor("Ed", "Chase", "M", "Young Language", 10)), read);
+    }
+
+    @Test
+    void givenAMalformedLineWhenReadingItThenAnExceptionIsThrown()
+        throws IOException {
+        // Given
+        Path file = directory.resolve("actors.csv");
+        Files.writeString(file, "Uma,Wood,F,Clash Freddy,twenty\n");
+        // When
+        Throwable throwable;
+        try (Stream<Actor> stream = ActorReader.read(file, ActorFormat.CSV)) {
+            throwable = assertThrows(IllegalStateException.class,
+                () -> stream.collect(Collectors.toList()));
+        }
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Malformed actor line: Uma,Wood,F,Clash Freddy,twenty",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAMissingFileWhenReadingItThenAnExceptionIsThrown() {
+        // When / Then
+        assertThrows(UncheckedIOException.class, () -> ActorReader.read(
+            directory.resolve("missing.csv"), ActorFormat.CSV));
+    }
+
+    @Test
+    void givenALineLongerThanAChunkWhenReadingItThenItIsParsed()
+        throws IOException {
+        // Given
+        Actor actor = new Actor("A".repeat(200_000), "B", "F", "C", 1);
+        Path file = write(ActorFormat.CSV, List.of(actor, actor));
+        // When
+        List<Actor> read;
+        try (Stream<Actor> stream = ActorReader.read(file, ActorFormat.CSV)) {
+            read = stream.collect(Collectors.toList());
+        }
+        // Then
+        assertEquals(List.of(actor, actor), read);
+    }
+
+    private Path write(ActorFormat format, List<Actor> actors)
+        throws IOException {
+        Path file = Files.createTempFile(directory, "actors-", ".txt");
+        StringBuilder text = new StringBuilder();
+        if(format.header() != null) {
+            text.append(format.header()).append('\n');
+        }
+        actors.forEach(actor -> text.append(format.format(actor)).append('\n'));
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        return file;
+    }
+}
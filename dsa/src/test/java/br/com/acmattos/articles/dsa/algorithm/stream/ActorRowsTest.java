@@ -0,0 +1,129 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorRowsTest {
+    @Test
+    void givenActorsWhenStoringThemAsRowsThenEveryActorIsReadBack() {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 61);
+        // When
+        ActorRows rows = ActorRows.of(actors);
+        // Then
+        assertEquals(actors.size(), rows.size());
+        assertEquals(actors, rows.stream().collect(Collectors.toList()));
+        assertEquals(actors, rows.stream().parallel()
+            .collect(Collectors.toList()));
+        assertArrayEquals(actors.stream().mapToInt(Actor::age).toArray(),
+            rows.ages().toArray());
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            StreamExamples.countActorsGroupedByMovie(
+                rows.stream().collect(Collectors.toList())));
+    }
+
+    @Test
+    void givenSmallPagesWhenStoringActorsThenRowsDoNotStraddlePages() {
+        // Given
+        ActorRows rows = new ActorRows(64);
+        List<Actor> actors = List.of(
+            new Actor("Penelope", "Guiness", "F", "Angels Life", 30),
+            new Actor("Zoë", "Ødegård", "F", "Çà et là", 41),
+            new Actor("", "", "", "", 0),
+            new Actor("Uma", "Wood", "F", "Dracula Crystal", 22));
+        // When
+        actors.forEach(rows::add);
+        // Then
+        assertEquals(actors, rows.stream().collect(Collectors.toList()));
+        assertEquals(3 * 64, rows.offHeapBytes());
+    }
+
+    @Test
+    void givenRowsWhenMovingAFlyweightThenItReadsEachRowInPlace() {
+        // Given
+        ActorRows rows = ActorRows.of(StreamExamples.getAllActors());
+        ActorRows.Row row = rows.row();
+        // When / Then
+        assertEquals("Penelope", row.firstName());
+        assertEquals(30, row.age());
+        int index = 0;
+        for (Actor actor : StreamExamples.getAllActors()) {
+            row.moveTo(index++);
+            assertEquals(actor.movie(), row.movie());
+            assertEquals(actor.gender(), row.gender());
+            assertEquals(actor, row.toActor());
+        }
+    }
+
+    @Test
+    void givenAnIndexOutOfBoundsWhenMovingAFlyweightThenAnExceptionIsThrown() {
+        // Given
+        ActorRows rows = ActorRows.of(StreamExamples.getAllActors());
+        // When
+        IndexOutOfBoundsException exception = assertThrows(
+            IndexOutOfBoundsException.class, () -> rows.get(rows.size()));
+        // Then
+        assertNotNull(exception);
+        assertEquals("Index out of bounds: " + rows.size() + ", size: "
+            + rows.size(), exception.getMessage());
+    }
+
+    @Test
+    void givenATooLongFieldWhenStoringAnActorThenAnExceptionIsThrown() {
+        // Given
+        ActorRows rows = new ActorRows();
+        Actor actor = new Actor("x".repeat(70_000), "", "", "", 0);
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> rows.add(actor));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The field exceeds 65535 bytes!", exception.getMessage());
+        assertEquals(0, rows.size());
+    }
+
+    @Test
+    void givenARowLargerThanAPageWhenStoringItThenAnExceptionIsThrown() {
+        // Given
+        ActorRows rows = new ActorRows(16);
+        Actor actor = new Actor("Penelope", "Guiness", "F", "Angels Life", 30);
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> rows.add(actor));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The row exceeds the page size: 39 > 16!",
+            exception.getMessage());
+    }
+
+    @Test
+    void givenNoRowsWhenReadingAFlyweightThenAnExceptionIsThrown() {
+        // Given
+        ActorRows.Row row = new ActorRows().row();
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, row::age);
+        // Then
+        assertNotNull(exception);
+        assertEquals("The flyweight isn't at any row!", exception.getMessage());
+        assertThrows(IllegalStateException.class, row::toActor);
+    }
+
+    @Test
+    void givenAPageSmallerThanARowHeaderWhenCreatingRowsThenAnExceptionIsThrown() {
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> new ActorRows(11));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The page size can't be less than 12 bytes!",
+            exception.getMessage());
+    }
+}
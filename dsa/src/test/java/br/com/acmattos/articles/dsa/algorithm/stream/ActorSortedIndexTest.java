@@ -0,0 +1,100 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActorSortedIndexTest {
+    @Test
+    void givenAnIndexWhenReadingByOffsetThenThePagesMatchSortingAndLimitingOrSkipping() {
+        // Given
+        Collection<Actor> actors = StreamExamples.getAllActors();
+        ActorSortedIndex index = new ActorSortedIndex(actors);
+        // When
+        ActorPage first = index.page(0, 3);
+        List<Actor> skipped = index.skip(9);
+        // Then
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3),
+            first.actors());
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9),
+            skipped);
+        assertEquals(14, index.size());
+        assertTrue(index.skip(20).isEmpty());
+    }
+
+    @Test
+    void givenAnIndexWhenReadingEveryPageByCursorThenAllActorsAreReadInSortedOrder() {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(10_000, 17);
+        ActorSortedIndex index = new ActorSortedIndex(actors);
+        List<Actor> read = new ArrayList<>();
+        // When
+        ActorPage page = index.page(0, 37);
+        read.addAll(page.actors());
+        while(page.next().isPresent()) {
+            page = index.pageAfter(page.next().get(), 37);
+            read.addAll(page.actors());
+        }
+        // Then
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            read);
+    }
+
+    @Test
+    void givenACursorWhenTheIndexIsRebuiltWithMoreActorsThenTheNextPageStartsAfterTheSameActor() {
+        // Given
+        List<Actor> actors = new ArrayList<>(StreamExamples.getAllActors());
+        ActorCursor cursor =
+            new ActorSortedIndex(actors).page(0, 3).next().orElseThrow();
+        actors.add(new Actor("Aaron", "Abel", "M", "Angels Life", 40));
+        actors.add(new Actor("Zoe", "Zane", "F", "Angels Life", 40));
+        // When
+        ActorPage page = new ActorSortedIndex(actors).pageAfter(cursor, 2);
+        // Then
+        assertEquals(new ActorCursor("Ed", "Chase", 6), cursor);
+        assertEquals(List.of(
+                new Actor("Grace", "Mostel", "F", "Angels Life", 63),
+                new Actor("Jennifer", "Davis", "F", "Angels Life", 28)),
+            page.actors());
+    }
+
+    @Test
+    void givenTheLastPageWhenReadingItThenThereIsNoNextCursor() {
+        // Given
+        ActorSortedIndex index =
+            new ActorSortedIndex(StreamExamples.getAllActors());
+        // When
+        ActorPage page = index.page(10, 10);
+        // Then
+        assertEquals(4, page.actors().size());
+        assertEquals(Optional.empty(), page.next());
+    }
+
+    @Test
+    void givenAPageSizeBellowOneWhenReadingAPageThenAnExceptionIsThrown() {
+        // Given
+        ActorSortedIndex index = new ActorSortedIndex(List.of());
+        ActorCursor cursor = new ActorCursor("Ed", "Chase", 6);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class, () -> index.page(0, -1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The page size can't be less than one!",
+            throwable.getMessage());
+        assertThrows(IllegalStateException.class, () -> index.page(0, 0));
+        assertThrows(IllegalStateException.class,
+            () -> index.pageAfter(cursor, 0));
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ActorTableTest {
+    static Stream<Collection<Actor>> datasets() {
+        return Stream.of(StreamExamples.getAllActors(), List.of(),
+            ActorGenerator.generate(5_000, 42));
+    }
+
+    @ParameterizedTest
+    @MethodSource("datasets")
+    void givenActorsWhenQueryingTheTableThenTheResultsMatchTheStreamQueries(
+        Collection<Actor> actors) {
+        // Given
+        ActorTable table = ActorTable.of(actors);
+        // When / Then
+        assertEquals(StreamExamples.countActors(actors), table.countActors());
+        assertEquals(StreamExamples.countDistinctActors(actors),
+            table.countDistinctActors());
+        assertEquals(StreamExamples.getDistinctActors(actors),
+            table.getDistinctActors());
+        assertEquals(StreamExamples.getOldestActor(actors),
+            table.getOldestActor());
+        assertEquals(StreamExamples.getYoungestActor(actors),
+            table.getYoungestActor());
+        assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+            table.getAverageAgeOfAllActors(), 1e-9);
+        assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+            table.getAverageAgeOfDistinctActors(), 1e-9);
+        assertEquals(
+            StreamExamples.filterActorsByFirstNameStartingWith(actors, "J"),
+            table.filterActorsByFirstNameStartingWith("J"));
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            table.getActorsSortedByFirstNameAscAndLastNameAsc());
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3),
+            table.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(3));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9),
+            table.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(9));
+        assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, 50),
+            table.getActorsWithAgeGreaterThan(50));
+        assertEquals(StreamExamples.getActorsGroupedByMovie(actors),
+            table.getActorsGroupedByMovie());
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            table.countActorsGroupedByMovie());
+        assertEquals(StreamExamples.getMoviesFromActors(actors),
+            table.getMoviesFromActors());
+        assertEquals(StreamExamples.getActorsFullNames(actors),
+            table.getActorsFullNames());
+    }
+
+    @Test
+    void givenActorsWhenAddingThemOneByOneThenTheTableGrowsAndKeepsRowOrder() {
+        // Given
+        ActorTable table = new ActorTable(0);
+        Collection<Actor> actors = StreamExamples.getAllActors();
+        // When
+        actors.forEach(table::add);
+        // Then
+        assertEquals(actors.size(), table.size());
+        assertEquals(new ArrayList<>(actors),
+            table.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenATableWhenGettingARowOutOfBoundsThenAnExceptionIsThrown() {
+        // Given
+        ActorTable table = ActorTable.of(StreamExamples.getAllActors());
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class, () -> table.get(14));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 14, size: 14",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANegativeLimitWhenSortingThenAnExceptionIsThrown() {
+        // Given
+        ActorTable table = new ActorTable();
+        // When
+        Throwable throwable = assertThrows(IllegalStateException.class,
+            () -> table.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(-1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The number of actors can't be less than zero!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANegativeCapacityWhenCreatingATableThenAnExceptionIsThrown() {
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class, () -> new ActorTable(-1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The table capacity can't be less than zero!",
+            throwable.getMessage());
+    }
+}
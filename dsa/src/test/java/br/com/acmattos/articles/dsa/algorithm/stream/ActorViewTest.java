@@ -0,0 +1,104 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActorViewTest {
+    @Test
+    void givenActorsWhenBuildingAViewThenTheAggregatesMatchTheStreamExamples() {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 47);
+        // When
+        ActorView view = new ActorView(actors);
+        // Then
+        assertMatchesStreamExamples(actors, view);
+    }
+
+    @Test
+    void givenRandomInsertionsAndDeletionsWhenUpdatingAViewThenTheAggregatesFollowThem() {
+        // Given
+        List<Actor> pool = ActorGenerator.generate(2_000, 53);
+        List<Actor> actors = new ArrayList<>();
+        ActorView view = new ActorView();
+        Random random = new Random(59);
+        for (int step = 0; step < 5_000; step++) {
+            // When
+            if(actors.isEmpty() || random.nextInt(3) > 0) {
+                Actor actor = pool.get(random.nextInt(pool.size()));
+                view.insert(actor);
+                actors.add(actor);
+            } else {
+                Actor actor = actors.get(random.nextInt(actors.size()));
+                assertTrue(view.delete(actor));
+                actors.remove(actor);
+            }
+            // Then
+            if(step % 500 == 0) {
+                assertMatchesStreamExamples(actors, view);
+            }
+        }
+        assertMatchesStreamExamples(actors, view);
+    }
+
+    @Test
+    void givenTheOldestActorWhenDeletingItThenTheNextOldestAgeIsReported() {
+        // Given
+        Actor old = new Actor("Ed", "Chase", "M", "Angels Life", 90);
+        Actor young = new Actor("Uma", "Wood", "F", "Angels Life", 20);
+        ActorView view = new ActorView(List.of(old, young, old));
+        // When
+        view.delete(old);
+        // Then
+        assertEquals(OptionalInt.of(90), view.getOldestAge());
+        // When
+        view.delete(old);
+        // Then
+        assertEquals(OptionalInt.of(20), view.getOldestAge());
+        assertEquals(1, view.countDistinctActors());
+        assertEquals(1L, view.countActorsGroupedByMovie().get("Angels Life"));
+    }
+
+    @Test
+    void givenAnActorNotInTheViewWhenDeletingItThenTheViewIsUnchanged() {
+        // Given
+        ActorView view = new ActorView(StreamExamples.getAllActors());
+        long count = view.countActors();
+        // When
+        boolean deleted = view.delete(new Actor("Nobody", "", "", "", 0));
+        // Then
+        assertFalse(deleted);
+        assertEquals(count, view.countActors());
+        assertMatchesStreamExamples(StreamExamples.getAllActors(), view);
+    }
+
+    private static void assertMatchesStreamExamples(Collection<Actor> actors,
+        ActorView view) {
+        assertEquals(StreamExamples.countActors(actors), view.countActors());
+        assertEquals(StreamExamples.countDistinctActors(actors),
+            view.countDistinctActors());
+        assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+            view.getAverageAgeOfAllActors(), 1e-9);
+        assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+            view.getAverageAgeOfDistinctActors(), 1e-9);
+        assertEquals(age(StreamExamples.getYoungestActor(actors)),
+            view.getYoungestAge());
+        assertEquals(age(StreamExamples.getOldestActor(actors)),
+            view.getOldestAge());
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            view.countActorsGroupedByMovie());
+    }
+
+    private static OptionalInt age(Optional<Actor> actor) {
+        return actor.map(a -> OptionalInt.of(a.age())).orElse(OptionalInt.empty());
+    }
+}
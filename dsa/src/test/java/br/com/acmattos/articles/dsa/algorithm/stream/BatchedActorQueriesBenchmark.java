@@ -0,0 +1,90 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-actor stream pipelines with the batch execution of
+ * {@code BatchedActorQueries} on the age filters and aggregates.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile -Dbenchmark=BatchedActorQueries -Djmh.args="-prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BatchedActorQueriesBenchmark {
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<Actor> actors;
+    private BatchedActorQueries batched;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actors = ActorGenerator.generate(size, 42);
+        batched = new BatchedActorQueries(ActorTable.of(actors));
+    }
+
+    @Benchmark
+    public double averageAgeStream() {
+        return StreamExamples.getAverageAgeOfAllActors(actors);
+    }
+
+    @Benchmark
+    public double averageAgeBatched() {
+        return batched.getAverageAgeOfAllActors();
+    }
+
+    @Benchmark
+    public double averageAgeOfOlderStream() {
+        return actors.stream()
+            .filter(actor -> actor.age() > 50)
+            .mapToInt(Actor::age)
+            .average()
+            .orElse(0);
+    }
+
+    @Benchmark
+    public double averageAgeOfOlderBatched() {
+        return batched.getAverageAgeOfActorsWithAgeGreaterThan(50);
+    }
+
+    @Benchmark
+    public Collection<Actor> actorsOlderStream() {
+        return StreamExamples.getActorsWithAgeGreaterThan(actors, 50);
+    }
+
+    @Benchmark
+    public List<Actor> actorsOlderBatched() {
+        return batched.getActorsWithAgeGreaterThan(50);
+    }
+
+    @Benchmark
+    public long countOlderStream() {
+        return actors.stream()
+            .filter(actor -> actor.age() > 50)
+            .count();
+    }
+
+    @Benchmark
+    public long countOlderBatched() {
+        return batched.countActorsWithAgeGreaterThan(50);
+    }
+}
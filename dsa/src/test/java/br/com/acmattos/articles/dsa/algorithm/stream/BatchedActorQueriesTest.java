@@ -0,0 +1,63 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchedActorQueriesTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1023, 1024, 1025, 20_000})
+    void givenActorsWhenRunningTheBatchQueriesThenTheResultsMatchTheStreamQueries(
+        int size) {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(size, 79);
+        BatchedActorQueries queries =
+            new BatchedActorQueries(ActorTable.of(actors));
+        for (int age : new int[] {Integer.MIN_VALUE, 0, 30, 50, 89,
+            Integer.MAX_VALUE}) {
+            // When / Then
+            assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+                queries.getAverageAgeOfAllActors(), 1e-9);
+            assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, age),
+                queries.getActorsWithAgeGreaterThan(age));
+            assertEquals(actors.stream().filter(a -> a.age() > age).count(),
+                queries.countActorsWithAgeGreaterThan(age));
+            assertEquals(actors.stream().filter(a -> a.age() > age)
+                    .mapToInt(Actor::age).average().orElse(0),
+                queries.getAverageAgeOfActorsWithAgeGreaterThan(age), 1e-9);
+        }
+    }
+
+    @Test
+    void givenASelectionWhenRefiningItThenOnlyFirstRowsAreKeptInOrder() {
+        // Given
+        Actor repeated = new Actor("Ed", "Chase", "M", "Angels Life", 50);
+        ActorTable table = ActorTable.of(List.of(
+            new Actor("Uma", "Wood", "F", "Angels Life", 5), repeated,
+            new Actor("Zoe", "Nolte", "F", "Angels Life", 7),
+            new Actor("Ed", "Chase", "M", "Angels Life", 70), repeated,
+            new Actor("Uma", "Wood", "F", "Angels Life", 90)));
+        int[] values = Arrays.copyOf(table.ageColumn(), table.size());
+        int[] selection = new int[values.length];
+        // When
+        int selected = BatchedActorQueries.selectGreaterThan(values, 0,
+            values.length, 6, selection);
+        int kept = BatchedActorQueries.refine(table.new DistinctRows(1),
+            selection, selected);
+        // Then
+        assertEquals(5, selected);
+        assertEquals(4, kept);
+        assertArrayEquals(new int[] {1, 2, 3, 5},
+            Arrays.copyOf(selection, kept));
+        assertEquals(50 + 7 + 70 + 50 + 90, BatchedActorQueries.sum(values, 1,
+            values.length));
+        assertEquals(50 + 7 + 70 + 90,
+            BatchedActorQueries.sumSelected(values, selection, kept));
+    }
+}
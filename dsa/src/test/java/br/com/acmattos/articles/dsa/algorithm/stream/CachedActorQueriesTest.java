@@ -0,0 +1,140 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedActorQueriesTest {
+    @Test
+    void givenActorsWhenRunningEveryQueryThenTheResultsMatchTheStreamExamples() {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(20_000, 37);
+        CachedActorQueries queries = new CachedActorQueries(actors);
+        // When / Then
+        assertMatchesStreamExamples(actors, queries);
+    }
+
+    @Test
+    void givenChangingActorsWhenQueryingThenTheResultsFollowTheChanges() {
+        // Given
+        List<Actor> actors = new ArrayList<>(StreamExamples.getAllActors());
+        CachedActorQueries queries = new CachedActorQueries(actors);
+        assertMatchesStreamExamples(actors, queries);
+        Actor actor = new Actor("Aaron", "Zed", "M", "Angels Life", 99);
+        // When
+        queries.add(actor);
+        actors.add(actor);
+        // Then
+        assertMatchesStreamExamples(actors, queries);
+        // When
+        assertTrue(queries.remove(actors.get(0)));
+        actors.remove(0);
+        // Then
+        assertMatchesStreamExamples(actors, queries);
+        // When
+        queries.clear();
+        // Then
+        assertMatchesStreamExamples(List.of(), queries);
+    }
+
+    @Test
+    void givenUnchangedActorsWhenQueryingTwiceThenIntermediateResultsAreReused() {
+        // Given
+        CachedActorQueries queries =
+            new CachedActorQueries(StreamExamples.getAllActors());
+        List<Actor> sorted = queries.getActorsSortedByFirstNameAscAndLastNameAsc();
+        List<Actor> distinct = queries.getDistinctActors();
+        long version = queries.version();
+        // When
+        queries.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(3);
+        queries.getActorsWithAgeGreaterThan(50);
+        // Then
+        assertSame(sorted, queries.getActorsSortedByFirstNameAscAndLastNameAsc());
+        assertSame(distinct, queries.getDistinctActors());
+        assertEquals(version, queries.version());
+        // When
+        assertFalse(queries.remove(new Actor("Nobody", "", "", "", 0)));
+        // Then
+        assertSame(distinct, queries.getDistinctActors());
+        // When
+        queries.add(new Actor("Aaron", "Zed", "M", "Angels Life", 99));
+        // Then
+        assertEquals(version + 1, queries.version());
+        assertNotSame(sorted, queries.getActorsSortedByFirstNameAscAndLastNameAsc());
+        assertNotSame(distinct, queries.getDistinctActors());
+    }
+
+    @Test
+    void givenActorsWhenQueryingThenTheResultsAreUnmodifiable() {
+        // Given
+        CachedActorQueries queries =
+            new CachedActorQueries(StreamExamples.getAllActors());
+        Actor actor = new Actor("Aaron", "Zed", "M", "Angels Life", 99);
+        // When / Then
+        assertThrows(UnsupportedOperationException.class,
+            () -> queries.getDistinctActors().add(actor));
+        assertThrows(UnsupportedOperationException.class,
+            () -> queries.getActorsSortedByFirstNameAscAndLastNameAsc().add(actor));
+        assertThrows(UnsupportedOperationException.class,
+            () -> queries.getActorsWithAgeGreaterThan(50).add(actor));
+        assertThrows(UnsupportedOperationException.class,
+            () -> queries.getMoviesFromActors().add("Angels Life"));
+        assertThrows(UnsupportedOperationException.class,
+            () -> queries.countActorsGroupedByMovie().put("Angels Life", 1L));
+        assertEquals(StreamExamples.getAllActors().size(), queries.countActors());
+    }
+
+    @Test
+    void givenANegativeNumberOfActorsWhenLimitingThenAnExceptionIsThrown() {
+        // Given
+        CachedActorQueries queries = new CachedActorQueries();
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> queries.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(-1));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The number of actors can't be less than zero!",
+            exception.getMessage());
+    }
+
+    private static void assertMatchesStreamExamples(Collection<Actor> actors,
+        CachedActorQueries queries) {
+        assertEquals(StreamExamples.countActors(actors), queries.countActors());
+        assertEquals(StreamExamples.getDistinctActors(actors),
+            queries.getDistinctActors());
+        assertEquals(StreamExamples.countDistinctActors(actors),
+            queries.countDistinctActors());
+        assertEquals(StreamExamples.getAverageAgeOfAllActors(actors),
+            queries.getAverageAgeOfAllActors(), 1e-9);
+        assertEquals(StreamExamples.getAverageAgeOfDistinctActors(actors),
+            queries.getAverageAgeOfDistinctActors(), 1e-9);
+        assertEquals(
+            StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors),
+            queries.getActorsSortedByFirstNameAscAndLastNameAsc());
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 3),
+            queries.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(3));
+        assertEquals(StreamExamples
+                .getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 9),
+            queries.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(9));
+        assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, 50),
+            queries.getActorsWithAgeGreaterThan(50));
+        assertEquals(StreamExamples.countActorsGroupedByMovie(actors),
+            queries.countActorsGroupedByMovie());
+        assertEquals(StreamExamples.getMoviesFromActors(actors),
+            queries.getMoviesFromActors());
+        assertEquals(StreamExamples.getActorsFullNames(actors),
+            queries.getActorsFullNames());
+    }
+}
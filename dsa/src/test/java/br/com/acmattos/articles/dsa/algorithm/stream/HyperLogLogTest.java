@@ -0,0 +1,73 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HyperLogLogTest {
+    @Test
+    void givenAnEmptySketchWhenEstimatingThenTheEstimateIsZero() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog();
+        // When / Then
+        assertEquals(0, sketch.estimate());
+        assertEquals(14, sketch.getPrecision());
+    }
+
+    @Test
+    void givenRepeatedHashesWhenEstimatingThenOnlyDistinctOnesAreCounted() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(12);
+        SplittableRandom random = new SplittableRandom(1);
+        long[] hashes = new long[1_000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+        }
+        // When
+        for (int round = 0; round < 10; round++) {
+            for (long hash : hashes) {
+                sketch.add(hash);
+            }
+        }
+        // Then
+        assertEquals(1_000, sketch.estimate(), 1_000 * 0.05);
+    }
+
+    @Test
+    void givenTwoSketchesWhenMergingThemThenTheUnionIsEstimated() {
+        // Given
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < 500_000; i++) {
+            long hash = random.nextLong();
+            left.add(hash);
+            if(i % 2 == 0) {
+                right.add(hash);
+            }
+            right.add(random.nextLong());
+        }
+        // When
+        long union = left.merge(right).estimate();
+        // Then
+        assertEquals(1_000_000, union, 1_000_000 * 0.03);
+    }
+
+    @Test
+    void givenSketchesOfDifferentPrecisionsWhenMergingThenAnExceptionIsThrown() {
+        // Given
+        HyperLogLog left = new HyperLogLog(10);
+        HyperLogLog right = new HyperLogLog(11);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class, () -> left.merge(right));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Sketches of different precisions can't be merged!",
+            throwable.getMessage());
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedActorsTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"", "J", "Jo", "John", "Johnny", "Johnnyx", "Z",
+        "Pen"})
+    void givenActorsWhenFilteringByFirstNamePrefixThenTheResultMatchesTheStreamQuery(
+        String prefix) {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(10_000, 29);
+        IndexedActors indexed = new IndexedActors(actors);
+        // When
+        List<Actor> matches = indexed.filterActorsByFirstNameStartingWith(prefix);
+        // Then
+        assertEquals(
+            StreamExamples.filterActorsByFirstNameStartingWith(actors, prefix),
+            matches);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, 0, 10, 50, 89, 90})
+    void givenActorsWhenFilteringByAgeThenTheResultMatchesTheStreamQuery(
+        int age) {
+        // Given
+        List<Actor> actors = ActorGenerator.generate(10_000, 31);
+        IndexedActors indexed = new IndexedActors(actors);
+        // When
+        List<Actor> matches = indexed.getActorsWithAgeGreaterThan(age);
+        // Then
+        assertEquals(StreamExamples.getActorsWithAgeGreaterThan(actors, age),
+            matches);
+    }
+
+    @Test
+    void givenActorsAddedOneByOneWhenQueryingThenTheIndexesAreUpToDate() {
+        // Given
+        IndexedActors indexed = new IndexedActors();
+        Collection<Actor> actors = StreamExamples.getAllActors();
+        // When
+        actors.forEach(indexed::add);
+        indexed.add(new Actor("Jack", "Nance", "M", "Eraserhead", 43));
+        // Then
+        assertEquals(15, indexed.size());
+        assertEquals(List.of("Jennifer", "Johnny", "Joe", "Jack"),
+            indexed.filterActorsByFirstNameStartingWith("J").stream()
+                .map(Actor::firstName)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(30, 30, 30, 35),
+            indexed.getActorsWithAgeBetween(30, 35).stream()
+                .map(Actor::age)
+                .collect(Collectors.toList()));
+        assertEquals(4, indexed.countActorsWithAgeBetween(30, 35));
+    }
+
+    @Test
+    void givenAPrefixEndingWithTheGreatestCharWhenFilteringThenOnlyMatchingNamesAreReturned() {
+        // Given
+        IndexedActors indexed = new IndexedActors(List.of(
+            new Actor("a\uffff", "A", "F", "M", 1),
+            new Actor("a\uffffz", "B", "F", "M", 2),
+            new Actor("b", "C", "F", "M", 3)));
+        // When
+        List<Actor> matches =
+            indexed.filterActorsByFirstNameStartingWith("a\uffff");
+        // Then
+        assertEquals(List.of("A", "B"),
+            matches.stream().map(Actor::lastName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenAnEmptyAgeRangeWhenQueryingThenNothingIsReturned() {
+        // Given
+        IndexedActors indexed = new IndexedActors(StreamExamples.getAllActors());
+        // When / Then
+        assertTrue(indexed.getActorsWithAgeBetween(40, 30).isEmpty());
+        assertEquals(0, indexed.countActorsWithAgeBetween(40, 30));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JoinersTest {
+    @Test
+    void givenElementsWhenJoiningThemThenTheResultMatchesCollectorsJoining() {
+        // Given
+        List<String> elements = List.of("Ed Chase", "", "Uma Wood", "");
+        // When
+        String joined = elements.stream().collect(Joiners.joining(", "));
+        // Then
+        assertEquals(String.join(", ", elements), joined);
+        assertEquals("", Stream.<String>empty()
+            .collect(Joiners.joining(", ")));
+    }
+
+    @Test
+    void givenAParallelStreamWhenJoiningItThenEncounterOrderIsKept() {
+        // Given
+        List<String> elements = IntStream.range(0, 10_000)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.toList());
+        // When
+        String joined = elements.parallelStream()
+            .collect(Joiners.joining(","));
+        // Then
+        assertEquals(String.join(",", elements), joined);
+    }
+
+    @Test
+    void givenAParallelStreamWhenJoiningItToAWriterThenEncounterOrderIsKept() {
+        // Given
+        List<String> elements = IntStream.range(0, 10_000)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.toList());
+        StringWriter out = new StringWriter();
+        // When
+        long written = Joiners.joinTo(elements.parallelStream(), ", ", out);
+        // Then
+        assertEquals(String.join(", ", elements), out.toString());
+        assertEquals(out.toString().length(), written);
+        assertEquals(0, Joiners.joinTo(Stream.empty(), ", ", out));
+    }
+
+    @Test
+    void givenElementsWhenJoiningThemToAnOutputStreamThenTheyAreEncoded() {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // When
+        long written = Joiners.joinTo(Stream.of("Zoë", "", "Ed"), "; ", out,
+            StandardCharsets.UTF_8);
+        // Then
+        assertEquals("Zoë; ; Ed", out.toString(StandardCharsets.UTF_8));
+        assertEquals(9, written);
+    }
+
+    @Test
+    void givenAFailingWriterWhenJoiningToItThenAnExceptionIsThrown() {
+        // Given
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] chars, int offset, int length)
+                throws IOException {
+                throw new IOException("Disk full!");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // When
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+            () -> Joiners.joinTo(Stream.of("Ed"), ", ", failing));
+        // Then
+        assertNotNull(exception);
+        assertEquals("Disk full!", exception.getCause().getMessage());
+    }
+}
@@ -0,0 +1,221 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every {@code StreamExamples} query in four forms, across dataset
+ * sizes: the sequential stream pipeline itself, the parallel stream mode of
+ * {@code ActorQueries}, the plain loops of {@code ActorLoops} and the
+ * columnar {@code ActorTable}. The columnar table is built once per trial,
+ * so its loading cost is not measured.
+ * <p>
+ * Throughput is reported per query and form; add the GC profiler for the
+ * allocation rate, e.g.:
+ * {@code mvn -Pbenchmark test-compile -Dbenchmark=StreamExamplesBenchmark -Djmh.args="-prof gc"}
+ * <p>
+ * A single query or form is selected with the usual JMH options, e.g.
+ * {@code -Dbenchmark=StreamExamplesBenchmark.countActorsGroupedByMovie -Djmh.args="-p form=LOOP,COLUMNAR"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class StreamExamplesBenchmark {
+    public enum Form {
+        SEQUENTIAL, PARALLEL, LOOP, COLUMNAR
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private Form form;
+
+    private List<Actor> actors;
+    private ActorTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actors = ActorGenerator.generate(size, 42);
+        table = ActorTable.of(actors);
+    }
+
+    @Benchmark
+    public long countActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.countActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.countActors(actors);
+            case LOOP -> ActorLoops.countActors(actors);
+            case COLUMNAR -> table.countActors();
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> getDistinctActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getDistinctActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getDistinctActors(actors);
+            case LOOP -> ActorLoops.getDistinctActors(actors);
+            case COLUMNAR -> table.getDistinctActors();
+        };
+    }
+
+    @Benchmark
+    public long countDistinctActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.countDistinctActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.countDistinctActors(actors);
+            case LOOP -> ActorLoops.countDistinctActors(actors);
+            case COLUMNAR -> table.countDistinctActors();
+        };
+    }
+
+    @Benchmark
+    public Optional<Actor> getOldestActor() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getOldestActor(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getOldestActor(actors);
+            case LOOP -> ActorLoops.getOldestActor(actors);
+            case COLUMNAR -> table.getOldestActor();
+        };
+    }
+
+    @Benchmark
+    public Optional<Actor> getYoungestActor() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getYoungestActor(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getYoungestActor(actors);
+            case LOOP -> ActorLoops.getYoungestActor(actors);
+            case COLUMNAR -> table.getYoungestActor();
+        };
+    }
+
+    @Benchmark
+    public double getAverageAgeOfAllActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getAverageAgeOfAllActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getAverageAgeOfAllActors(actors);
+            case LOOP -> ActorLoops.getAverageAgeOfAllActors(actors);
+            case COLUMNAR -> table.getAverageAgeOfAllActors();
+        };
+    }
+
+    @Benchmark
+    public double getAverageAgeOfDistinctActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getAverageAgeOfDistinctActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getAverageAgeOfDistinctActors(actors);
+            case LOOP -> ActorLoops.getAverageAgeOfDistinctActors(actors);
+            case COLUMNAR -> table.getAverageAgeOfDistinctActors();
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> filterActorsByFirstNameStartingWith() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.filterActorsByFirstNameStartingWith(actors, "J");
+            case PARALLEL -> ActorQueries.PARALLEL.filterActorsByFirstNameStartingWith(actors, "J");
+            case LOOP -> ActorLoops.filterActorsByFirstNameStartingWith(actors, "J");
+            case COLUMNAR -> table.filterActorsByFirstNameStartingWith("J");
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAsc() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsSortedByFirstNameAscAndLastNameAsc(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsSortedByFirstNameAscAndLastNameAsc(actors);
+            case LOOP -> ActorLoops.getActorsSortedByFirstNameAscAndLastNameAsc(actors);
+            case COLUMNAR -> table.getActorsSortedByFirstNameAscAndLastNameAsc();
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscLimitedBy() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 10);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 10);
+            case LOOP -> ActorLoops.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(actors, 10);
+            case COLUMNAR -> table.getActorsSortedByFirstNameAscAndLastNameAscLimitedBy(10);
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 10);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 10);
+            case LOOP -> ActorLoops.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(actors, 10);
+            case COLUMNAR -> table.getActorsSortedByFirstNameAscAndLastNameAscSkipingFirst(10);
+        };
+    }
+
+    @Benchmark
+    public Collection<Actor> getActorsWithAgeGreaterThan() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsWithAgeGreaterThan(actors, 50);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsWithAgeGreaterThan(actors, 50);
+            case LOOP -> ActorLoops.getActorsWithAgeGreaterThan(actors, 50);
+            case COLUMNAR -> table.getActorsWithAgeGreaterThan(50);
+        };
+    }
+
+    @Benchmark
+    public Map<String, List<Actor>> getActorsGroupedByMovie() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsGroupedByMovie(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsGroupedByMovie(actors);
+            case LOOP -> ActorLoops.getActorsGroupedByMovie(actors);
+            case COLUMNAR -> table.getActorsGroupedByMovie();
+        };
+    }
+
+    @Benchmark
+    public Map<String, Long> countActorsGroupedByMovie() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.countActorsGroupedByMovie(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.countActorsGroupedByMovie(actors);
+            case LOOP -> ActorLoops.countActorsGroupedByMovie(actors);
+            case COLUMNAR -> table.countActorsGroupedByMovie();
+        };
+    }
+
+    @Benchmark
+    public Collection<String> getMoviesFromActors() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getMoviesFromActors(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getMoviesFromActors(actors);
+            case LOOP -> ActorLoops.getMoviesFromActors(actors);
+            case COLUMNAR -> table.getMoviesFromActors();
+        };
+    }
+
+    @Benchmark
+    public String getActorsFullNames() {
+        return switch (form) {
+            case SEQUENTIAL -> StreamExamples.getActorsFullNames(actors);
+            case PARALLEL -> ActorQueries.PARALLEL.getActorsFullNames(actors);
+            case LOOP -> ActorLoops.getActorsFullNames(actors);
+            case COLUMNAR -> table.getActorsFullNames();
+        };
+    }
+}
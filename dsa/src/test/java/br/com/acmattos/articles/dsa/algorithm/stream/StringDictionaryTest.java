@@ -0,0 +1,111 @@
+package br.com.acmattos.articles.dsa.algorithm.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringDictionaryTest {
+    @Test
+    void givenStringsWhenInterningThemThenEachDistinctStringGetsTheNextId() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        // When
+        int angels = dictionary.intern("Angels Life");
+        int dracula = dictionary.intern("Dracula Crystal");
+        int again = dictionary.intern(new String("Angels Life"));
+        // Then
+        assertEquals(0, angels);
+        assertEquals(1, dracula);
+        assertEquals(angels, again);
+        assertEquals(2, dictionary.size());
+        assertEquals("Dracula Crystal", dictionary.get(dracula));
+        assertEquals(dracula, dictionary.idOf("Dracula Crystal"));
+        assertEquals(-1, dictionary.idOf("Clash Freddy"));
+    }
+
+    @Test
+    void givenManyStringsWhenInterningThemThenTheDictionaryGrows() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            dictionary.intern("s" + i);
+        }
+        // Then
+        assertEquals(1_000, dictionary.size());
+        assertEquals("s999", dictionary.get(999));
+    }
+
+    @Test
+    void givenEqualStringsWhenCanonicalizingThemThenTheFirstInstanceIsReturned() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        String first = new String("Angels Life");
+        String second = new String("Angels Life");
+        assertNotSame(first, second);
+        // When
+        String canonicalFirst = dictionary.canonical(first);
+        String canonicalSecond = dictionary.canonical(second);
+        // Then
+        assertSame(first, canonicalFirst);
+        assertSame(first, canonicalSecond);
+    }
+
+    @Test
+    void givenParallelThreadsWhenInterningTheSameStringsThenIdsAreDenseAndShared() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        int distinct = 5_000;
+        // When
+        int[] ids = IntStream.range(0, 200_000).parallel()
+            .map(i -> dictionary.intern("s" + (i % distinct)))
+            .toArray();
+        // Then
+        assertEquals(distinct, dictionary.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals("s" + (i % distinct), dictionary.get(ids[i]));
+        }
+        boolean[] seen = new boolean[distinct];
+        for (int id : ids) {
+            seen[id] = true;
+        }
+        for (boolean used : seen) {
+            assertTrue(used);
+        }
+    }
+
+    @Test
+    void givenStringsWhenRankingThemThenRanksFollowTheirNaturalOrder() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.intern("Uma");
+        dictionary.intern("Ed");
+        dictionary.intern("Nick");
+        // When
+        int[] ranks = dictionary.ranks();
+        // Then
+        assertArrayEquals(new int[] {2, 0, 1}, ranks);
+    }
+
+    @Test
+    void givenAnUnknownIdWhenGettingItsStringThenAnExceptionIsThrown() {
+        // Given
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.intern("F");
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> dictionary.get(1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Id out of bounds: 1, size: 1", throwable.getMessage());
+    }
+}
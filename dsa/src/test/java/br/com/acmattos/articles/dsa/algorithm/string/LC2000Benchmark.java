@@ -0,0 +1,89 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the three {@code LC2000} methods across word lengths and
+ * positions of the first match: the string method copies the word on every
+ * swap, so its cost grows with the square of the prefix, while the other two
+ * copy it a bounded number of times.
+ * <p>
+ * Run with the GC profiler, for the bytes allocated per call
+ * ({@code gc.alloc.rate.norm}):
+ * {@code mvn -Pbenchmark test-compile -Dbenchmark=LC2000Benchmark -Djmh.args="-prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LC2000Benchmark {
+    /**
+     * Where the char first occurs in the word.
+     */
+    public enum Match {
+        /** The char is not in the word: nothing is reversed. */
+        NONE,
+        /** The first char of the word: nothing is reversed either. */
+        FIRST,
+        /** The middle of the word: half of it is reversed. */
+        MIDDLE,
+        /** The last char of the word: all of it is reversed. */
+        LAST
+    }
+
+    private static final char CH = 'z';
+
+    @Param({"8", "64", "1024", "8192"})
+    private int length;
+
+    @Param
+    private Match match;
+
+    private final LC2000 lc = new LC2000();
+    private String word;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + i % 25);
+        }
+        switch (match) {
+            case FIRST -> letters[0] = CH;
+            case MIDDLE -> letters[length / 2] = CH;
+            case LAST -> letters[length - 1] = CH;
+            case NONE -> { }
+        }
+        word = new String(letters);
+    }
+
+    @Benchmark
+    public String string() {
+        return lc.stringReversePrefixOfWord(word, CH);
+    }
+
+    @Benchmark
+    public String stringBuilder() {
+        return lc.stringbuilderReversePrefixOfWord(word, CH);
+    }
+
+    @Benchmark
+    public String charArray() {
+        return lc.charArrayReversePrefixOfWord(word, CH);
+    }
+}
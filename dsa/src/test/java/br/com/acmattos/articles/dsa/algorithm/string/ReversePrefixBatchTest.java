@@ -0,0 +1,119 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReversePrefixBatchTest {
+    private final LC2000 lc = new LC2000();
+
+    @ParameterizedTest
+    @EnumSource(WordEncoding.class)
+    void givenManyWordsWhenReversingTheirPrefixesThenEveryWordMatchesLC2000(
+        WordEncoding encoding) {
+        // Given
+        List<String> words = words(20_000, 83);
+        PackedWords packed = PackedWords.of(encoding, words);
+        long holding = words.stream().filter(word -> word.indexOf('d') >= 0)
+            .count();
+        for (boolean parallel : new boolean[] {false, true}) {
+            byte[] out = new byte[packed.bytes().length];
+            // When
+            int reversed = ReversePrefixBatch.reversePrefixes(packed, 'd', out,
+                parallel);
+            // Then
+            PackedWords results = new PackedWords(encoding, out,
+                packed.offsets());
+            assertEquals(holding, reversed);
+            for (int i = 0; i < words.size(); i++) {
+                assertEquals(lc.charArrayReversePrefixOfWord(words.get(i), 'd'),
+                    results.get(i));
+                assertEquals(words.get(i), packed.get(i));
+            }
+        }
+    }
+
+    @Test
+    void givenWordsWhenReversingTheirPrefixesIntoNewWordsThenTheyShareNoArrayWithTheInput() {
+        // Given
+        List<String> words = List.of("abcd", "dcba", "xyz");
+        PackedWords packed = PackedWords.of(WordEncoding.UTF_8, words);
+        // When
+        PackedWords results = ReversePrefixBatch.reversePrefixes(packed, 'd',
+            false);
+        // Then
+        assertEquals(PackedWords.of(WordEncoding.UTF_8,
+            List.of("dcba", "dcba", "xyz")), results);
+        assertNotSame(packed.offsets(), results.offsets());
+        assertNotSame(packed.bytes(), results.bytes());
+        assertEquals(PackedWords.of(WordEncoding.UTF_8, words), packed);
+    }
+
+    @Test
+    void givenWordsWhenReversingTheirPrefixesInPlaceThenTheInputHoldsTheResults() {
+        // Given
+        List<String> words = List.of("abcdefd", "", "xyxzxe", "abcd", "z");
+        PackedWords packed = PackedWords.of(WordEncoding.LATIN_1, words);
+        // When
+        int reversed = ReversePrefixBatch.reversePrefixes(packed, 'z',
+            packed.bytes(), true);
+        // Then
+        assertEquals(2, reversed);
+        assertEquals("zxyxxe", packed.get(2));
+        assertEquals("abcdefd", packed.get(0));
+        assertEquals("", packed.get(1));
+        assertEquals("z", packed.get(4));
+    }
+
+    @Test
+    void givenAShortOutputWhenReversingThenAnExceptionIsThrown() {
+        // Given
+        PackedWords packed = PackedWords.of(WordEncoding.LATIN_1,
+            List.of("abc", "de"));
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> ReversePrefixBatch.reversePrefixes(packed, 'a', new byte[4],
+                false));
+        // Then
+        assertNotNull(exception);
+        assertEquals("The output can't be shorter than the words: 4 < 5!",
+            exception.getMessage());
+    }
+
+    @Test
+    void givenDecreasingOffsetsWhenPackingWordsThenAnExceptionIsThrown() {
+        // When
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class, () -> new PackedWords(
+                WordEncoding.LATIN_1, new byte[4], new int[] {0, 3, 2, 4}));
+        // Then
+        assertNotNull(exception);
+        assertEquals("Offset out of order at index 2: 2!",
+            exception.getMessage());
+    }
+
+    private static List<String> words(int count, long seed) {
+        Random random = new Random(seed);
+        String letters = "abcdefxyzéà";
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                word.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
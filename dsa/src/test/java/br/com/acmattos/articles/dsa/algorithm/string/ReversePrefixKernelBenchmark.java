@@ -0,0 +1,115 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares, on long words whose only match is their last char, the three
+ * {@code LC2000} methods with the {@code ReversePrefix} kernels, and the
+ * SWAR search and reverse of the byte kernels with their scalar baselines.
+ * <p>
+ * The kernels work in place, so each invocation first copies the word into
+ * the buffer (as a caller refilling its buffer would); {@code copyOnly}
+ * measures that copy alone.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile -Dbenchmark=ReversePrefixKernel -Djmh.args="-prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReversePrefixKernelBenchmark {
+    @Param({"256", "4096", "16384"})
+    private int length;
+
+    private final LC2000 lc = new LC2000();
+    private String word;
+    private byte[] bytes;
+    private byte[] buffer;
+    private char[] chars;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length - 1; i++) {
+            builder.append((char) ('a' + i % 25));
+        }
+        word = builder.append('z').toString();
+        bytes = word.getBytes(StandardCharsets.ISO_8859_1);
+        buffer = new byte[length];
+        chars = new char[length];
+    }
+
+    @Benchmark
+    public String lcString() {
+        return lc.stringReversePrefixOfWord(word, 'z');
+    }
+
+    @Benchmark
+    public String lcStringBuilder() {
+        return lc.stringbuilderReversePrefixOfWord(word, 'z');
+    }
+
+    @Benchmark
+    public String lcCharArray() {
+        return lc.charArrayReversePrefixOfWord(word, 'z');
+    }
+
+    @Benchmark
+    public byte[] copyOnly() {
+        System.arraycopy(bytes, 0, buffer, 0, length);
+        return buffer;
+    }
+
+    @Benchmark
+    public char[] kernelCharArray() {
+        word.getChars(0, length, chars, 0);
+        ReversePrefix.reversePrefix(chars, 0, length, 'z');
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] kernelLatin1Swar() {
+        System.arraycopy(bytes, 0, buffer, 0, length);
+        ReversePrefix.reversePrefixLatin1(buffer, 0, length, 'z');
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] kernelLatin1Scalar() {
+        System.arraycopy(bytes, 0, buffer, 0, length);
+        int end = ReversePrefix.indexOfScalar(buffer, 0, length, (byte) 'z');
+        ReversePrefix.reverseScalar(buffer, 0, end);
+        return buffer;
+    }
+
+    @Benchmark
+    public int indexOfSwar() {
+        return ReversePrefix.indexOf(bytes, 0, length, (byte) 'z');
+    }
+
+    @Benchmark
+    public int indexOfScalar() {
+        return ReversePrefix.indexOfScalar(bytes, 0, length, (byte) 'z');
+    }
+
+    @Benchmark
+    public int indexOfString() {
+        return word.indexOf('z');
+    }
+}
@@ -0,0 +1,189 @@
+package br.com.acmattos.articles.dsa.algorithm.string;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReversePrefixTest {
+    private final LC2000 lc = new LC2000();
+
+    @ParameterizedTest
+    @CsvSource({"abcdefd, d", "xyxzxe, z", "abcd, z", "a, a", "ab, b",
+        "ba, b", "'', a", "déjàvu, à", "çava, a"})
+    void givenAWordWhenReversingItsPrefixThenEveryKernelMatchesLC2000(
+        String word, char ch) {
+        // Given
+        String expected = lc.charArrayReversePrefixOfWord(word, ch);
+        int index = word.indexOf(ch);
+        // When
+        char[] chars = ("<" + word + ">").toCharArray();
+        int charsIndex = ReversePrefix.reversePrefix(chars, 1,
+            chars.length - 1, ch);
+        CharBuffer buffer = CharBuffer.wrap(("<" + word + ">").toCharArray())
+            .position(1).limit(word.length() + 1);
+        int bufferIndex = ReversePrefix.reversePrefix(buffer, ch);
+        byte[] latin1 = ("<" + word + ">").getBytes(StandardCharsets.ISO_8859_1);
+        int latin1Index = ReversePrefix.reversePrefixLatin1(latin1, 1,
+            latin1.length - 1, ch);
+        ByteBuffer direct = ByteBuffer.allocateDirect(latin1.length);
+        direct.put(("<" + word + ">").getBytes(StandardCharsets.ISO_8859_1))
+            .position(1).limit(latin1.length - 1);
+        int directIndex = ReversePrefix.reversePrefixLatin1(direct, ch);
+        byte[] utf8 = ("<" + word + ">").getBytes(StandardCharsets.UTF_8);
+        int utf8Index = ReversePrefix.reversePrefixUtf8(utf8, 1,
+            utf8.length - 1, ch);
+        // Then
+        String framed = "<" + expected + ">";
+        assertEquals(framed, new String(chars));
+        assertEquals(framed, buffer.clear().toString());
+        assertEquals(framed, new String(latin1, StandardCharsets.ISO_8859_1));
+        byte[] directBytes = new byte[latin1.length];
+        direct.clear().get(directBytes);
+        assertEquals(framed, new String(directBytes, StandardCharsets.ISO_8859_1));
+        assertEquals(framed, new String(utf8, StandardCharsets.UTF_8));
+        int expectedIndex = index < 0 ? -1 : index + 1;
+        assertEquals(expectedIndex, charsIndex);
+        assertEquals(expectedIndex, bufferIndex);
+        assertEquals(expectedIndex, latin1Index);
+        assertEquals(expectedIndex, directIndex);
+        assertEquals(index < 0 ? -1 : 1 + ("<" + word).substring(1, index + 1)
+            .getBytes(StandardCharsets.UTF_8).length, utf8Index);
+    }
+
+    @Test
+    void givenAUtf8WordWhenReversingItsPrefixThenCodePointsAreReversed() {
+        // Given
+        byte[] word = "€日ßa!x".getBytes(StandardCharsets.UTF_8);
+        // When
+        int index = ReversePrefix.reversePrefixUtf8(word, 0, word.length, '!');
+        // Then
+        assertEquals("!aß日€x", new String(word, StandardCharsets.UTF_8));
+        assertEquals(9, index);
+    }
+
+    @Test
+    void givenAUtf8WordWhenSearchingAMultiByteCharThenItsEncodingIsMatched() {
+        // Given
+        byte[] word = "aéb日c".getBytes(StandardCharsets.UTF_8);
+        byte[] unchanged = word.clone();
+        // When
+        int index = ReversePrefix.reversePrefixUtf8(word, 0, word.length, '日');
+        int missing = ReversePrefix.reversePrefixUtf8(unchanged, 0,
+            unchanged.length, '本');
+        // Then
+        assertEquals("日béac", new String(word, StandardCharsets.UTF_8));
+        assertEquals(4, index);
+        assertEquals(-1, missing);
+        assertEquals(-1, ReversePrefix.reversePrefixUtf8(new byte[1], 0, 1, '日'));
+        assertEquals("aéb日c", new String(unchanged, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenBytesWhenSearchingAndReversingEightAtATimeThenTheScalarResultsAreMatched() {
+        // Given
+        Random random = new Random(89);
+        for (int length = 0; length < 80; length++) {
+            byte[] word = new byte[length];
+            for (int i = 0; i < length; i++) {
+                word[i] = random.nextInt(4) == 0 ? (byte) 0x80
+                    : (byte) random.nextInt(256);
+            }
+            for (int from = 0; from <= length; from += 3) {
+                for (byte b : new byte[] {0, 1, (byte) 0x80, (byte) 0xFF, 'a'}) {
+                    // When / Then
+                    assertEquals(
+                        ReversePrefix.indexOfScalar(word, from, length, b),
+                        ReversePrefix.indexOf(word, from, length, b));
+                }
+                byte[] swar = word.clone();
+                byte[] scalar = word.clone();
+                ReversePrefix.reverse(swar, from, length - 1);
+                ReversePrefix.reverseScalar(scalar, from, length - 1);
+                assertArrayEquals(scalar, swar);
+            }
+        }
+    }
+
+    @Test
+    void givenBuffersOfEitherOrderWhenSearchingAndReversingEightAtATimeThenTheArrayResultsAreMatched() {
+        // Given
+        Random random = new Random(97);
+        for (int length = 0; length < 80; length++) {
+            byte[] word = new byte[length];
+            for (int i = 0; i < length; i++) {
+                word[i] = random.nextInt(4) == 0 ? (byte) 0x80
+                    : (byte) random.nextInt(256);
+            }
+            for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN,
+                ByteOrder.LITTLE_ENDIAN}) {
+                for (int from = 0; from <= length; from += 3) {
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(length)
+                        .order(order).put(0, word);
+                    for (byte b : new byte[] {0, 1, (byte) 0x80, (byte) 0xFF}) {
+                        // When / Then
+                        assertEquals(
+                            ReversePrefix.indexOf(word, from, length, b),
+                            ReversePrefix.indexOf(buffer, from, length, b));
+                    }
+                    byte[] expected = word.clone();
+                    ReversePrefix.reverse(expected, from, length - 1);
+                    ReversePrefix.reverse(buffer, from, length - 1);
+                    byte[] reversed = new byte[length];
+                    buffer.get(0, reversed);
+                    assertArrayEquals(expected, reversed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenACharAboveLatin1WhenReversingALatin1WordThenItIsNeverFound() {
+        // Given
+        byte[] word = {'a', 'b', 0x3F};
+        // When
+        int index = ReversePrefix.reversePrefixLatin1(word, 0, word.length,
+            'Ŀ');
+        // Then
+        assertEquals(-1, index);
+        assertEquals("ab?", new String(word, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void givenARangeOutOfTheBufferWhenReversingThenAnExceptionIsThrown() {
+        // Given
+        char[] word = "abc".toCharArray();
+        // When
+        IndexOutOfBoundsException exception = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> ReversePrefix.reversePrefix(word, 1, 4, 'c'));
+        // Then
+        assertNotNull(exception);
+        assertEquals("Range out of bounds: [1, 4), length: 3",
+            exception.getMessage());
+        assertEquals("abc", String.valueOf(word));
+    }
+
+    @Test
+    void givenPackedWordsWhenReversingEachPrefixThenNeighboursAreUntouched() {
+        // Given
+        byte[] words = "abcdefd|xyxzxe|abcd".getBytes(StandardCharsets.US_ASCII);
+        // When
+        ReversePrefix.reversePrefixLatin1(words, 0, 7, 'd');
+        ReversePrefix.reversePrefixLatin1(words, 8, 14, 'z');
+        ReversePrefix.reversePrefixLatin1(words, 15, 19, 'z');
+        // Then
+        assertEquals("dcbaefd|zxyxxe|abcd",
+            new String(words, StandardCharsets.US_ASCII));
+    }
+}
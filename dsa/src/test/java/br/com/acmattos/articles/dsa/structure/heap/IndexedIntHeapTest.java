@@ -0,0 +1,171 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedIntHeapTest {
+    @Test
+    void givenAnInvalidIdWhenAddingAnEntryThenAnExceptionIsThrown() {
+        // Given
+        IndexedIntHeap heap = new IndexedIntHeap(2);
+        int id = 2;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> heap.add(id, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Id out of bounds: 2, capacity: 2",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnIdInTheHeapWhenAddingItAgainThenAnExceptionIsThrown() {
+        // Given
+        IndexedIntHeap heap = new IndexedIntHeap(2);
+        heap.add(1, 10);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> heap.add(1, 5));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The id is already in the heap: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnIdNotInTheHeapWhenDecreasingItsKeyThenAnExceptionIsThrown() {
+        // Given
+        IndexedIntHeap heap = new IndexedIntHeap(2);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class,
+                () -> heap.decreaseKey(0, 5));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The id is not in the heap: 0",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenALargerKeyWhenDecreasingAKeyThenAnExceptionIsThrown() {
+        // Given
+        IndexedIntHeap heap = new IndexedIntHeap(2);
+        heap.add(0, 5);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> heap.decreaseKey(0, 6));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The key 6 doesn't decrease the key 5 of id 0!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenEntriesWhenDecreasingAKeyThenTheEntryMovesToTheTop() {
+        // Given
+        IndexedIntHeap heap = createPopulatedHeap(30, 10, 20);
+        // When
+        heap.decreaseKey(0, 5);
+        // Then
+        assertEquals(0, heap.peekId());
+        assertEquals(5, heap.peekKey());
+        assertEquals(5, heap.keyOf(0));
+    }
+
+    @Test
+    void givenEntriesWhenIncreasingTheTopKeyThenTheNextEntryMovesToTheTop() {
+        // Given
+        IndexedIntHeap heap = createPopulatedHeap(30, 10, 20);
+        // When
+        heap.updateKey(1, 40);
+        // Then
+        assertEquals(2, heap.peekId());
+        assertEquals(20, heap.peekKey());
+    }
+
+    @Test
+    void givenEntriesWhenRemovingAnIdThenTheIdIsNoLongerInTheHeap() {
+        // Given
+        IndexedIntHeap heap = createPopulatedHeap(30, 10, 20);
+        // When
+        int key = heap.remove(2);
+        // Then
+        assertEquals(20, key);
+        assertFalse(heap.contains(2));
+        assertEquals(2, heap.size());
+        assertEquals(1, heap.remove());
+        assertEquals(0, heap.remove());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void givenAnEmptyHeapWhenRemovingThenAnExceptionIsThrown() {
+        // Given
+        IndexedIntHeap heap = new IndexedIntHeap(2);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, heap::remove);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap is empty!", throwable.getMessage());
+    }
+
+    @Test
+    void givenANonEmptyHeapWhenClearingTheHeapThenTheIdsCanBeAddedAgain() {
+        // Given
+        IndexedIntHeap heap = createPopulatedHeap(30, 10);
+        // When
+        heap.clear();
+        heap.add(0, 1);
+        // Then
+        assertEquals(1, heap.size());
+        assertFalse(heap.contains(1));
+        assertEquals("IndexedIntHeap=[0: 1]", heap.toString());
+    }
+
+    @Test
+    void givenRandomKeyUpdatesWhenRemovingEveryIdThenTheKeysComeOutSorted() {
+        // Given
+        Random random = new Random(29);
+        int capacity = 500;
+        IndexedIntHeap heap = new IndexedIntHeap(capacity);
+        for (int id = 0; id < capacity; id++) {
+            heap.add(id, random.nextInt(10_000));
+        }
+        for (int i = 0; i < 2_000; i++) {
+            int id = random.nextInt(capacity);
+            if(random.nextBoolean()) {
+                heap.decreaseKey(id, heap.keyOf(id) - random.nextInt(100));
+            } else {
+                heap.updateKey(id, random.nextInt(10_000));
+            }
+        }
+        // When / Then
+        int previous = Integer.MIN_VALUE;
+        while(!heap.isEmpty()) {
+            int key = heap.peekKey();
+            assertTrue(previous <= key);
+            heap.remove();
+            previous = key;
+        }
+    }
+
+    private IndexedIntHeap createPopulatedHeap(int... keys) {
+        IndexedIntHeap heap = new IndexedIntHeap(keys.length + 1);
+        for (int id = 0; id < keys.length; id++) {
+            heap.add(id, keys[id]);
+        }
+        return heap;
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntBinaryHeapTest extends IntHeapContractTest {
+    @Test
+    void givenAnNegativeCapacityWhenAHeapIsCreatedThenAnExceptionIsThrown() {
+        // Given
+        int capacity = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> new IntBinaryHeap(capacity, IntComparator.NATURAL));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap capacity can't be less than zero!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAZeroCapacityHeapWhenAddingValuesThenTheHeapGrows() {
+        // Given
+        IntBinaryHeap heap = new IntBinaryHeap(0, IntComparator.NATURAL);
+        // When
+        heap.add(2);
+        heap.add(1);
+        // Then
+        assertEquals("IntBinaryHeap=[1, 2]", heap.toString());
+    }
+
+    @Override
+    protected IntHeap createHeap(IntComparator comparator) {
+        return new IntBinaryHeap(10, comparator);
+    }
+}
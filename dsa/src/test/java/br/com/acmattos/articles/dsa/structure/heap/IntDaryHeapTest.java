@@ -0,0 +1,50 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntDaryHeapTest extends IntHeapContractTest {
+    @Test
+    void givenAnArityBellowTwoWhenAHeapIsCreatedThenAnExceptionIsThrown() {
+        // Given
+        int arity = 1;
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> new IntDaryHeap(arity));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap arity can't be less than two!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnArityWhenAHeapIsCreatedThenTheArityIsTheSameProvided() {
+        // Given
+        int arity = 8;
+        // When
+        IntDaryHeap heap = new IntDaryHeap(arity);
+        // Then
+        assertEquals(arity, heap.getArity());
+    }
+
+    @Test
+    void givenAQuaternaryHeapWhenAddingValuesThenEveryChildComesAfterItsParent() {
+        // Given
+        IntDaryHeap heap = new IntDaryHeap(4);
+        // When
+        for (int value = 6; value > 0; value--) {
+            heap.add(value);
+        }
+        // Then
+        assertEquals("IntDaryHeap=[1, 2, 5, 4, 3, 6]", heap.toString());
+    }
+
+    @Override
+    protected IntHeap createHeap(IntComparator comparator) {
+        return new IntDaryHeap(4, 10, comparator);
+    }
+}
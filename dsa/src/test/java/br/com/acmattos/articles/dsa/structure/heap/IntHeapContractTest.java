@@ -0,0 +1,134 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contract every {@code IntHeap} implementation must honour. Concrete test
+ * classes provide the heap under test, ordered by the given comparator.
+ */
+abstract class IntHeapContractTest {
+    @Test
+    void givenAnEmptyHeapWhenPeekingThenAnExceptionIsThrown() {
+        // Given
+        IntHeap heap = createHeap(IntComparator.NATURAL);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, heap::peek);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap is empty!", throwable.getMessage());
+    }
+
+    @Test
+    void givenAnEmptyHeapWhenRemovingThenAnExceptionIsThrown() {
+        // Given
+        IntHeap heap = createHeap(IntComparator.NATURAL);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, heap::remove);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap is empty!", throwable.getMessage());
+    }
+
+    @Test
+    void givenAnEmptyHeapWhenReplacingThenAnExceptionIsThrown() {
+        // Given
+        IntHeap heap = createHeap(IntComparator.NATURAL);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, () -> heap.replace(1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The heap is empty!", throwable.getMessage());
+    }
+
+    @Test
+    void givenAddedValuesWhenPeekingThenTheSmallestValueIsReturned() {
+        // Given
+        IntHeap heap = createPopulatedHeap(IntComparator.NATURAL, 5, 3, 8, 1, 9);
+        // When
+        int top = heap.peek();
+        // Then
+        assertEquals(1, top);
+        assertEquals(5, heap.size());
+    }
+
+    @Test
+    void givenAReverseComparatorWhenPeekingThenTheLargestValueIsReturned() {
+        // Given
+        IntHeap heap = createPopulatedHeap(IntComparator.REVERSE, 5, 3, 8, 1, 9);
+        // When
+        int top = heap.peek();
+        // Then
+        assertEquals(9, top);
+    }
+
+    @Test
+    void givenAddedValuesWhenReplacingTheTopThenThePreviousTopIsReturned() {
+        // Given
+        IntHeap heap = createPopulatedHeap(IntComparator.NATURAL, 5, 3, 8);
+        // When
+        int top = heap.replace(7);
+        // Then
+        assertEquals(3, top);
+        assertEquals(5, heap.remove());
+        assertEquals(7, heap.remove());
+        assertEquals(8, heap.remove());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void givenANonEmptyHeapWhenClearingTheHeapThenTheSizeIsZero() {
+        // Given
+        IntHeap heap = createPopulatedHeap(IntComparator.NATURAL, 5, 3, 8);
+        // When
+        heap.clear();
+        // Then
+        assertEquals(0, heap.size());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void givenRandomValuesWhenRemovingEveryValueThenTheValuesComeOutSorted() {
+        // Given
+        Random random = new Random(29);
+        int[] values = random.ints(1_000, -500, 500).toArray();
+        IntHeap heap = createPopulatedHeap(IntComparator.NATURAL, values);
+        // When
+        int[] removed = new int[values.length];
+        for (int i = 0; i < removed.length; i++) {
+            removed[i] = heap.remove();
+        }
+        // Then
+        Arrays.sort(values);
+        assertArrayEquals(values, removed);
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Creates an empty instance of the heap under test.
+     *
+     * @param comparator the order of the heap.
+     * @return an empty heap.
+     */
+    protected abstract IntHeap createHeap(IntComparator comparator);
+
+    private IntHeap createPopulatedHeap(IntComparator comparator, int... values) {
+        IntHeap heap = createHeap(comparator);
+        for (int value : values) {
+            heap.add(value);
+        }
+        return heap;
+    }
+}
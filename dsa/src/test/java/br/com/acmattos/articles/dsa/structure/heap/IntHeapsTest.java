@@ -0,0 +1,76 @@
+package br.com.acmattos.articles.dsa.structure.heap;
+
+import br.com.acmattos.articles.dsa.structure.list.ArrayList;
+import br.com.acmattos.articles.dsa.structure.list.DoublyLinkedList;
+import br.com.acmattos.articles.dsa.structure.list.LinkedList;
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.list.TreeIntList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntHeapsTest {
+    @ParameterizedTest
+    @ValueSource(classes = {ArrayList.class, LinkedList.class,
+        DoublyLinkedList.class, TreeIntList.class})
+    void givenAListWhenSelectingTheTopKValuesThenTheLargestValuesAreReturned(
+        Class<? extends List> type) throws ReflectiveOperationException {
+        // Given
+        List list = createPopulatedList(type, 5, 1, 9, 3, 9, 7, 2);
+        // When
+        int[] top = IntHeaps.topK(list, 3);
+        // Then
+        assertArrayEquals(new int[] {9, 9, 7}, top);
+        assertEquals(7, list.size());
+    }
+
+    @Test
+    void givenAReverseComparatorWhenSelectingTheTopKValuesThenTheSmallestValuesAreReturned()
+        throws ReflectiveOperationException {
+        // Given
+        List list = createPopulatedList(ArrayList.class, 5, 1, 9, 3, 9, 7, 2);
+        // When
+        int[] top = IntHeaps.topK(list, 2, IntComparator.REVERSE);
+        // Then
+        assertArrayEquals(new int[] {1, 2}, top);
+    }
+
+    @Test
+    void givenAKLargerThanTheListWhenSelectingTheTopKValuesThenEveryValueIsReturned()
+        throws ReflectiveOperationException {
+        // Given
+        List list = createPopulatedList(LinkedList.class, 2, 3, 1);
+        // When
+        int[] top = IntHeaps.topK(list, 10);
+        // Then
+        assertArrayEquals(new int[] {3, 2, 1}, top);
+    }
+
+    @Test
+    void givenANegativeKWhenSelectingTheTopKValuesThenAnExceptionIsThrown() {
+        // Given
+        List list = new ArrayList();
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> IntHeaps.topK(list, -1));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The number of values can't be less than zero!",
+            throwable.getMessage());
+    }
+
+    private List createPopulatedList(Class<? extends List> type, int... values)
+        throws ReflectiveOperationException {
+        List list = type.getDeclaredConstructor().newInstance();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,862 @@
+package br.com.acmattos.articles.dsa.structure.list;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contract every {@code List} implementation must honour. Concrete test
+ * classes only provide the list under test and its expected costs, and
+ * inherit the positional cases, a model-based fuzzer that replays random
+ * operation sequences against {@code java.util.ArrayList}, and an opt-in
+ * performance regression mode.
+ */
+abstract class ListContractTest {
+    private static final int FUZZING_STEPS = 2_000;
+    private static final int FUZZING_VALUES = 16;
+    private static final int LINEAR_WORKLOAD_SIZE = 10_000;
+    private static final int QUADRATIC_WORKLOAD_SIZE = 2_000;
+    private static final int GROWTH_FACTOR = 4;
+    private static final double GROWTH_TOLERANCE = 0.5;
+    private static final int PERFORMANCE_RUNS = 5;
+
+
+    @Test
+    void givenANegativeIndexWhenGettingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(index));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAInvalidIndexWhenGettingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.get(index));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAValidIndexWhenGettingAValueWithTheIndexThenAValueIsReturned() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 0;
+        // When
+        int value = list.get(index);
+        // Then
+        assertEquals(0, value);
+    }
+
+    @Test
+    void givenAnEmptyListWhenGettingFirstValueThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class, list::getFirst);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 0, size: 0",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANomEmptyListWhenGettingFirstValueThenAValueIsReturned() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        int value = list.getFirst();
+        // Then
+        assertEquals(0, value);
+    }
+
+    @Test
+    void givenAnEmptyListWhenGettingLastValueThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class, list::getLast);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 0",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANomEmptyListWhenGettingLastValueThenAValueIsReturned() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        int value = list.getLast();
+        // Then
+        assertEquals(0, value);
+    }
+
+    @Test
+    void givenANegativeIndexWhenSettingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.set(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAInvalidIndexWhenSettingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.set(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAValidIndexWhenSettingAValueWithTheIndexThenAValueIsReturned() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 0;
+        // When
+        list.set(index, 10);
+        // Then
+        assertEquals(10, list.get(index));
+    }
+
+    @Test
+    void givenANegativeIndexWhenAddingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.add(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnInvalidIndexWhenAddingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 2;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.add(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 2, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnEmptyListWhenAddingAValueWithTheIndexThenAValueIsAdded() {
+        // Given
+        List list = createPopulatedList(0);
+        int index = 0;
+        // When
+        list.add(index, 10);
+        // Then
+        assertEquals(10, list.get(index));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void givenAnIndexEqualEndOfTheListWhenAddingAValueWithTheIndexThenAValueIsAdded() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 1;
+        // When
+        list.add(index, 10);
+        // Then
+        assertEquals(0, list.get(0));
+        assertEquals(10, list.get(index));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void givenANegativeIndexWhenAddingAValueAtIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.add(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnInvalidIndexWhenAddingAValueAtIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 2;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.add(index, 10));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 2, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAValidIndexWhenAddingAValueAtIndexThenAAValueIsAdded() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 1;
+        // When
+        list.add(index,10);
+        // Then
+        assertEquals(0, list.get(0));
+        assertEquals(10, list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void givenAValidIndexWhenAddingAValueWithTheIndexThenAValueIsInsertedAtIndexPosition() {
+        // Given
+        List list = createPopulatedList(3);
+        int index = 2;
+        // When
+        list.add(index, 10);
+        // Then
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.get(1));
+        assertEquals(10, list.get(index));
+        assertEquals(2, list.get(3));
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void givenAnEmptyListWhenAddingAValueAsFirstThenListSizeIsOne() {
+        // Given
+        List list = createPopulatedList(0);
+        int index = 0;
+        // When
+        list.addFirst(10);
+        // Then
+        assertEquals(10, list.get(index));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void givenANonEmptyListWhenAddingAValueAsFirstThenListSizeIsTwo() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        list.addFirst(10);
+        // Then
+        assertEquals(10, list.get(0));
+        assertEquals(0, list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void givenAnEmptyListWhenAddingAValueAsLastThenListSizeIsOne() {
+        // Given
+        List list = createPopulatedList(0);
+        int index = 0;
+        // When
+        list.add(10);
+        // Then
+        assertEquals(10, list.get(index));
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void givenANonEmptyListWhenAddingAValueAsLastThenListSizeIsTwo() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        list.add(10);
+        // Then
+        assertEquals(0, list.get(0));
+        assertEquals(10, list.get(1));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    void givenANegativeIndexWhenRemovingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = -1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.remove(index));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: -1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAInvalidIndexWhenRemovingAValueWithTheIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 1;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.remove(index));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 1, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAValidIndexWhenRemovingTheFirstValueWithTheIndexThenTheSizeIsZero() {
+        // Given
+        List list = createPopulatedList(1);
+        int index = 0;
+        // When
+        int value = list.remove(index);
+        // Then
+        assertEquals(0, value);
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenAValidIndexWhenRemovingAValueWithTheIndexThenTheSizeIsTwo() {
+        // Given
+        List list = createPopulatedList(3);
+        int index = 1;
+        // When
+        int value = list.remove(index);
+        // Then
+        assertEquals(1, value);
+        assertEquals(0, list.get(0));
+        assertEquals(2, list.get(1));
+        assertEquals(2, list.size());
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenAValidLastIndexWhenRemovingAValueWithTheIndexThenTheSizeIsTwo() {
+        // Given
+        List list = createPopulatedList(4);
+        int index = 2;
+        // When
+        int value = list.remove(index);
+        // Then
+        assertEquals(2, value);
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.get(1));
+        assertEquals(3, list.get(2));
+        assertEquals(3, list.size());
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenAnEmptyListWhenRemovingFirstValueThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, list::removeFirst);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The list is empty!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANonEmptyListWhenRemovingFirstValueThenTheSizeIsZero() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        int value = list.removeFirst();
+        // Then
+        assertEquals(0, value);
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenANonEmptyListWhenRemovingFirstValueThenTheSizeIsOne() {
+        // Given
+        List list = createPopulatedList(2);
+        // When
+        int value = list.removeFirst();
+        // Then
+        assertEquals(0, value);
+        assertEquals(1, list.get(0));
+        assertEquals(1, list.size());
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenAnEmptyListWhenRemovingLastValueThenAnExceptionIsThrown() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, list::remove);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The list is empty!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenANonEmptyListWhenRemovingLastValueThenTheSizeIsZero() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        int value = list.remove();
+        // Then
+        assertEquals(0, value);
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenANonEmptyListWhenRemovingLastValueThenTheSizeIsOne() {
+        // Given
+        List list = createPopulatedList(2);
+        // When
+        int value = list.remove();
+        // Then
+        assertEquals(1, value);
+        assertEquals(0, list.get(0));
+        assertEquals(1, list.size());
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenANonEmptyListWhenClearingTheListThenTheSizeIsZero() {
+        // Given
+        List list = createPopulatedList(1);
+        // When
+        list.clear();
+        // Then
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenAEmptyListWhenContainsValueThenFalseIsReturned() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        boolean contains = list.contains(10);
+        // Then
+        assertFalse(contains);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void givenAnInvalidValueWhenContainsValueThenFalseIsReturned() {
+        // Given
+        List list = createPopulatedList(4);
+        int value = 4;
+        // When
+        boolean contains = list.contains(value);
+        // Then
+        assertFalse(contains);
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenAnValidValueWhenContainsValueThenTrueIsReturned() {
+        // Given
+        List list = createPopulatedList(4);
+        int value = 3;
+        // When
+        boolean contains = list.contains(value);
+        // Then
+        assertTrue(contains);
+        assertFalse(list.isEmpty());
+    }
+
+    @Test
+    void givenANomEmptyListWhenIteratingTheListThenValuesAreVisitedInOrder() {
+        // Given
+        List list = createPopulatedList(4);
+        StringBuilder visited = new StringBuilder();
+        // When
+        list.forEach(visited::append);
+        // Then
+        assertEquals("0123", visited.toString());
+    }
+
+    @Test
+    void givenAnEmptyListWhenStringifyTheListThenNoElementsIsShown() {
+        // Given
+        List list = createPopulatedList(0);
+        // When
+        String toString = list.toString();
+        // Then
+        assertEquals(list.getClass().getSimpleName() + "=[]", toString);
+    }
+
+    @Test
+    void givenANomEmptyListWhenStringifyTheListThenElementsAreShown() {
+        // Given
+        List list = createPopulatedList(4);
+        // When
+        String toString = list.toString();
+        // Then
+        assertEquals(list.getClass().getSimpleName() + "=[0, 1, 2, 3]",
+            toString);
+    }
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvvvv Model-Based Fuzzing vvvvvvvvvvvvvvvvvvvvvvvvvvv
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L, 2_000L, 65_537L})
+    void givenARandomSequenceOfOperationsWhenReplayedAgainstAReferenceListThenBothListsAgree(
+        long seed) {
+        // Given
+        List list = createList();
+        java.util.List<Integer> reference = new java.util.ArrayList<>();
+        Random random = new Random(seed);
+        StringBuilder trace = new StringBuilder("seed: " + seed);
+        Operation[] operations = Operation.values();
+        // When
+        for (int step = 0; step < FUZZING_STEPS; step++) {
+            Operation operation = random.nextInt(100) == 0
+                ? Operation.CLEAR
+                : operations[random.nextInt(operations.length - 1)];
+            int index = random.nextInt(reference.size() + 3) - 1;
+            int value = random.nextInt(FUZZING_VALUES);
+            trace.append("\n").append(step).append(": ").append(operation)
+                .append('(').append(index).append(", ").append(value)
+                .append(')');
+            // Then
+            Supplier<String> message = trace::toString;
+            operation.replay(list, reference, index, value, message);
+            assertEquals(reference.size(), list.size(), message);
+            assertEquals(reference.isEmpty(), list.isEmpty(), message);
+        }
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i), list.get(i), trace::toString);
+        }
+    }
+
+    /**
+     * Operations randomly replayed against both the list under test and a
+     * {@code java.util.ArrayList} used as reference model. {@code CLEAR} is
+     * kept as the last constant so it can be drawn with a lower probability.
+     */
+    private enum Operation {
+        GET {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(index < 0 || index >= reference.size()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        () -> list.get(index), message);
+                } else {
+                    assertEquals(reference.get(index), list.get(index), message);
+                }
+            }
+        },
+        GET_FIRST {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(reference.isEmpty()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        list::getFirst, message);
+                } else {
+                    assertEquals(reference.get(0), list.getFirst(), message);
+                }
+            }
+        },
+        GET_LAST {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(reference.isEmpty()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        list::getLast, message);
+                } else {
+                    assertEquals(reference.get(reference.size() - 1),
+                        list.getLast(), message);
+                }
+            }
+        },
+        SET {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(index < 0 || index >= reference.size()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        () -> list.set(index, value), message);
+                } else {
+                    assertEquals(reference.set(index, value),
+                        list.set(index, value), message);
+                }
+            }
+        },
+        ADD_AT {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(index < 0 || index > reference.size()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        () -> list.add(index, value), message);
+                } else {
+                    reference.add(index, value);
+                    list.add(index, value);
+                }
+            }
+        },
+        ADD_FIRST {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                reference.add(0, value);
+                list.addFirst(value);
+            }
+        },
+        ADD {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                reference.add(value);
+                list.add(value);
+            }
+        },
+        REMOVE_AT {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(index < 0 || index >= reference.size()) {
+                    assertThrows(IndexOutOfBoundsException.class,
+                        () -> list.remove(index), message);
+                } else {
+                    assertEquals(reference.remove(index), list.remove(index),
+                        message);
+                }
+            }
+        },
+        REMOVE_FIRST {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(reference.isEmpty()) {
+                    assertThrows(NoSuchElementException.class,
+                        list::removeFirst, message);
+                } else {
+                    assertEquals(reference.remove(0), list.removeFirst(),
+                        message);
+                }
+            }
+        },
+        REMOVE {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                if(reference.isEmpty()) {
+                    assertThrows(NoSuchElementException.class,
+                        list::remove, message);
+                } else {
+                    assertEquals(reference.remove(reference.size() - 1),
+                        list.remove(), message);
+                }
+            }
+        },
+        CONTAINS {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                assertEquals(reference.contains(value), list.contains(value),
+                    message);
+            }
+        },
+        CLEAR {
+            @Override
+            void replay(List list, java.util.List<Integer> reference,
+                        int index, int value, Supplier<String> message) {
+                reference.clear();
+                list.clear();
+            }
+        };
+
+        abstract void replay(List list, java.util.List<Integer> reference,
+                             int index, int value, Supplier<String> message);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^^^ Model-Based Fuzzing ^^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    // vvvvvvvvvvvvvvvvvvvvvvvvv Performance Regression vvvvvvvvvvvvvvvvvvvvvvvvvv
+    /**
+     * Runs every {@link Workload} at two input sizes and estimates how its
+     * running time grows. The test fails when the observed growth exponent
+     * exceeds the one implied by {@link #expectedCost(Workload)}, flagging
+     * implementations that turned super-linear by accident.
+     * Enabled with {@code -Ddsa.performance=true}, since timings are only
+     * meaningful on a quiet machine.
+     */
+    @ParameterizedTest
+    @EnumSource(Workload.class)
+    @EnabledIfSystemProperty(named = "dsa.performance", matches = "true")
+    void givenAGrowingInputWhenRunningAWorkloadThenTheCostGrowsAsExpected(
+        Workload workload) {
+        // Given
+        Cost cost = expectedCost(workload);
+        int size = cost == Cost.LINEAR
+            ? QUADRATIC_WORKLOAD_SIZE
+            : LINEAR_WORKLOAD_SIZE;
+        // When
+        bestTimeOf(workload, size * GROWTH_FACTOR);
+        long small = bestTimeOf(workload, size);
+        long large = bestTimeOf(workload, size * GROWTH_FACTOR);
+        // Then
+        double exponent = Math.log((double) large / Math.max(small, 1))
+            / Math.log(GROWTH_FACTOR);
+        assertTrue(exponent <= cost.exponent + GROWTH_TOLERANCE,
+            () -> workload + " expected " + cost + " operations but grew as n^"
+                + String.format("%.2f", exponent) + " (" + small + " ns -> "
+                + large + " ns)");
+    }
+
+    private long bestTimeOf(Workload workload, int size) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < PERFORMANCE_RUNS; run++) {
+            List list = createList();
+            if(workload != Workload.APPEND) {
+                for (int i = 0; i < size; i++) {
+                    list.add(i);
+                }
+            }
+            Random random = new Random(run);
+            long start = System.nanoTime();
+            workload.run(list, size, random);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Expected cost of a single operation of the implementation under test.
+     * The {@code exponent} is the growth of {@code n} such operations.
+     */
+    protected enum Cost {
+        CONSTANT(1.0),
+        LOGARITHMIC(1.0),
+        LINEAR(2.0);
+
+        private final double exponent;
+
+        Cost(double exponent) {
+            this.exponent = exponent;
+        }
+    }
+
+    /**
+     * Sequences of {@code n} operations timed by the performance mode. Every
+     * workload but {@code APPEND} runs over a list already holding {@code n}
+     * values.
+     */
+    protected enum Workload {
+        APPEND {
+            @Override
+            void run(List list, int size, Random random) {
+                for (int i = 0; i < size; i++) {
+                    list.add(i);
+                }
+            }
+        },
+        RANDOM_GET {
+            @Override
+            void run(List list, int size, Random random) {
+                long sum = 0;
+                for (int i = 0; i < size; i++) {
+                    sum += list.get(random.nextInt(size));
+                }
+                assertTrue(sum >= 0);
+            }
+        },
+        RANDOM_INSERT {
+            @Override
+            void run(List list, int size, Random random) {
+                for (int i = 0; i < size; i++) {
+                    list.add(random.nextInt(list.size() + 1), i);
+                }
+            }
+        };
+
+        abstract void run(List list, int size, Random random);
+    }
+    // ^^^^^^^^^^^^^^^^^^^^^^^^^ Performance Regression ^^^^^^^^^^^^^^^^^^^^^^^^^^
+
+    /**
+     * Creates an empty instance of the list under test.
+     *
+     * @return an empty list.
+     */
+    protected abstract List createList();
+
+    /**
+     * Declares the expected cost of a single operation of the given workload
+     * for the list under test.
+     *
+     * @param workload the workload being timed.
+     * @return the expected cost of one of its operations.
+     */
+    protected abstract Cost expectedCost(Workload workload);
+
+    /**
+     * Creates a list holding the values {@code 0} to {@code size - 1}.
+     *
+     * @param size the number of values to be added.
+     * @return the populated list.
+     */
+    protected List createPopulatedList(int size) {
+        List list = createList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.acmattos.articles.dsa.structure.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreeIntListTest extends ListContractTest {
+    @Test
+    void givenAnInvalidIndexWhenSplittingTheListThenAnExceptionIsThrown() {
+        // Given
+        TreeIntList list = (TreeIntList) createPopulatedList(1);
+        int index = 2;
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> list.split(index));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Index out of bounds: 2, size: 1",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAValidIndexWhenSplittingTheListThenTheValuesAreDividedAtIndex() {
+        // Given
+        TreeIntList list = (TreeIntList) createPopulatedList(5);
+        int index = 2;
+        // When
+        TreeIntList tail = list.split(index);
+        // Then
+        assertEquals("TreeIntList=[0, 1]", list.toString());
+        assertEquals("TreeIntList=[2, 3, 4]", tail.toString());
+        assertEquals(2, list.size());
+        assertEquals(3, tail.size());
+    }
+
+    @Test
+    void givenTwoListsWhenConcatenatingThemThenTheValuesAreAppended() {
+        // Given
+        TreeIntList list = (TreeIntList) createPopulatedList(2);
+        TreeIntList other = (TreeIntList) createPopulatedList(3);
+        // When
+        list.concat(other);
+        // Then
+        assertEquals("TreeIntList=[0, 1, 0, 1, 2]", list.toString());
+        assertEquals(5, list.size());
+        assertTrue(other.isEmpty());
+    }
+
+    @Test
+    void givenTheSameListWhenConcatenatingThenAnExceptionIsThrown() {
+        // Given
+        TreeIntList list = (TreeIntList) createPopulatedList(2);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalArgumentException.class,
+                () -> list.concat(list));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("A list can't be concatenated with itself!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenAnExhaustedIteratorWhenGettingNextValueThenAnExceptionIsThrown() {
+        // Given
+        PrimitiveIterator.OfInt iterator = new TreeIntList().iterator();
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, iterator::nextInt);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("No more values!", throwable.getMessage());
+    }
+
+    @Override
+    protected List createList() {
+        return new TreeIntList();
+    }
+
+    @Override
+    protected Cost expectedCost(Workload workload) {
+        return Cost.LOGARITHMIC;
+    }
+}
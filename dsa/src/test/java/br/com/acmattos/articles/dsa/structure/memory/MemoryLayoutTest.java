@@ -0,0 +1,124 @@
+package br.com.acmattos.articles.dsa.structure.memory;
+
+import br.com.acmattos.articles.dsa.structure.heap.IndexedIntHeap;
+import br.com.acmattos.articles.dsa.structure.heap.IntBinaryHeap;
+import br.com.acmattos.articles.dsa.structure.heap.IntComparator;
+import br.com.acmattos.articles.dsa.structure.heap.IntDaryHeap;
+import br.com.acmattos.articles.dsa.structure.list.ArrayList;
+import br.com.acmattos.articles.dsa.structure.list.DoublyLinkedList;
+import br.com.acmattos.articles.dsa.structure.list.LinkedList;
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.list.TreeIntList;
+import br.com.acmattos.articles.dsa.structure.queue.MpscIntRingBuffer;
+import br.com.acmattos.articles.dsa.structure.queue.SpscIntRingBuffer;
+import br.com.acmattos.articles.dsa.structure.search.BinarySearchIntIndex;
+import br.com.acmattos.articles.dsa.structure.search.EytzingerIntIndex;
+import br.com.acmattos.articles.dsa.structure.search.STreeIntIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies the footprint estimated by every structure against the layout
+ * measured by JOL on the running JVM.
+ */
+class MemoryLayoutTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 100})
+    void givenListsWhenEstimatingTheirFootprintThenTheEstimateMatchesJol(int size) {
+        // Given
+        List[] lists = {new ArrayList(), new LinkedList(),
+            new DoublyLinkedList(), new TreeIntList()};
+        for (List list : lists) {
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+            // When
+            MemoryStats stats = ((MemoryMeasurable) list).footprint();
+            // Then
+            assertMatchesJol(GraphLayout.parseInstance(list), stats);
+            assertEquals((long) size * Integer.BYTES, stats.payloadBytes());
+        }
+    }
+
+    @Test
+    void givenAnArrayListWithSpareCapacityWhenEstimatingItsFootprintThenTheSpareCapacityIsSlack() {
+        // Given
+        ArrayList list = new ArrayList(10);
+        list.add(1);
+        list.add(2);
+        // When
+        MemoryStats stats = list.footprint();
+        // Then
+        assertEquals(2 * Integer.BYTES, stats.payloadBytes());
+        assertEquals(8 * Integer.BYTES, stats.slackBytes());
+        assertEquals(2, stats.objectCount());
+    }
+
+    @Test
+    void givenQueuesWhenEstimatingTheirFootprintThenTheEstimateMatchesJol() {
+        // Given
+        SpscIntRingBuffer spsc = new SpscIntRingBuffer(16);
+        MpscIntRingBuffer mpsc = new MpscIntRingBuffer(16);
+        spsc.offer(new int[] {1, 2, 3});
+        mpsc.offer(new int[] {1, 2, 3});
+        // When
+        MemoryStats spscStats = spsc.footprint();
+        MemoryStats mpscStats = mpsc.footprint();
+        // Then
+        assertMatchesJol(GraphLayout.parseInstance(spsc), spscStats);
+        assertMatchesJol(GraphLayout.parseInstance(mpsc), mpscStats);
+        assertEquals(3 * Integer.BYTES, spscStats.payloadBytes());
+        assertEquals(13 * Integer.BYTES, mpscStats.slackBytes());
+    }
+
+    @Test
+    void givenHeapsWhenEstimatingTheirFootprintThenTheEstimateMatchesJol() {
+        // Given
+        IntBinaryHeap binary = new IntBinaryHeap();
+        IntDaryHeap dary = new IntDaryHeap(4);
+        IndexedIntHeap indexed = new IndexedIntHeap(8);
+        for (int i = 0; i < 5; i++) {
+            binary.add(i);
+            dary.add(i);
+            indexed.add(i, i);
+        }
+        GraphLayout comparator = GraphLayout.parseInstance(IntComparator.NATURAL);
+        // When / Then
+        assertMatchesJol(GraphLayout.parseInstance(binary).subtract(comparator),
+            binary.footprint());
+        assertMatchesJol(GraphLayout.parseInstance(dary).subtract(comparator),
+            dary.footprint());
+        assertMatchesJol(GraphLayout.parseInstance(indexed).subtract(comparator),
+            indexed.footprint());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 17, 100})
+    void givenSearchIndexesWhenEstimatingTheirFootprintThenTheEstimateMatchesJol(
+        int size) {
+        // Given
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        MemoryMeasurable[] indexes = {new BinarySearchIntIndex(sorted),
+            new EytzingerIntIndex(sorted), new STreeIntIndex(sorted)};
+        for (MemoryMeasurable index : indexes) {
+            // When
+            MemoryStats stats = index.footprint();
+            // Then
+            assertMatchesJol(GraphLayout.parseInstance(index), stats);
+            assertEquals((long) size * Integer.BYTES, stats.payloadBytes());
+        }
+    }
+
+    private static void assertMatchesJol(GraphLayout layout, MemoryStats stats) {
+        assertEquals(layout.totalSize(), stats.totalBytes(), layout::toFootprint);
+        assertEquals(layout.totalCount(), stats.objectCount(),
+            layout::toFootprint);
+    }
+}
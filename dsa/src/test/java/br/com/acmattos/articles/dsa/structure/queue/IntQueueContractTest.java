@@ -0,0 +1,170 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Single-threaded contract every bounded {@code IntQueue} implementation must
+ * honour. Concrete test classes provide the queue under test and add their own
+ * concurrent handoff cases.
+ */
+abstract class IntQueueContractTest {
+    @Test
+    void givenAnInvalidCapacityWhenAQueueIsCreatedThenAnExceptionIsThrown() {
+        // Given
+        int capacity = 0;
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class,
+                () -> createQueue(capacity));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The queue capacity must be between 1 and 1073741824!",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenACapacityWhenAQueueIsCreatedThenTheCapacityIsRoundedUpToAPowerOfTwo() {
+        // Given
+        int capacity = 5;
+        // When
+        IntQueue queue = createQueue(capacity);
+        // Then
+        assertEquals(8, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void givenAnEmptyQueueWhenPollingThenAnExceptionIsThrown() {
+        // Given
+        IntQueue queue = createQueue(4);
+        // When
+        Throwable throwable =
+            assertThrows(NoSuchElementException.class, queue::poll);
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The queue is empty!", throwable.getMessage());
+    }
+
+    @Test
+    void givenAFullQueueWhenOfferingAValueThenTheValueIsRefused() {
+        // Given
+        IntQueue queue = createPopulatedQueue(4, 4);
+        // When
+        boolean offered = queue.offer(10);
+        // Then
+        assertFalse(offered);
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void givenOfferedValuesWhenPollingThenTheValuesAreReturnedInFifoOrder() {
+        // Given
+        IntQueue queue = createPopulatedQueue(4, 3);
+        // When
+        int first = queue.poll();
+        int second = queue.poll();
+        int third = queue.poll();
+        // Then
+        assertEquals(0, first);
+        assertEquals(1, second);
+        assertEquals(2, third);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void givenAQueueThatWrappedAroundWhenPollingThenTheValuesAreReturnedInFifoOrder() {
+        // Given
+        IntQueue queue = createQueue(4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(i, queue.poll());
+        }
+        // When
+        int offered = queue.offer(new int[] {10, 11, 12, 13});
+        // Then
+        assertEquals(4, offered);
+        for (int i = 10; i < 14; i++) {
+            assertEquals(i, queue.poll());
+        }
+    }
+
+    @Test
+    void givenABatchLargerThanTheFreeSpaceWhenOfferingThenOnlyAPrefixIsAdded() {
+        // Given
+        IntQueue queue = createPopulatedQueue(4, 2);
+        // When
+        int offered = queue.offer(new int[] {10, 11, 12, 13});
+        // Then
+        assertEquals(2, offered);
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.poll());
+        assertEquals(1, queue.poll());
+        assertEquals(10, queue.poll());
+        assertEquals(11, queue.poll());
+    }
+
+    @Test
+    void givenAnInvalidRangeWhenOfferingABatchThenAnExceptionIsThrown() {
+        // Given
+        IntQueue queue = createQueue(4);
+        int[] values = {1, 2, 3};
+        // When
+        Throwable throwable =
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> queue.offer(values, 2, 2));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("Range out of bounds: [2, 4), length: 3",
+            throwable.getMessage());
+    }
+
+    @Test
+    void givenOfferedValuesWhenDrainingWithALimitThenAtMostLimitValuesAreConsumed() {
+        // Given
+        IntQueue queue = createPopulatedQueue(8, 5);
+        StringBuilder drained = new StringBuilder();
+        // When
+        int count = queue.drain(value -> drained.append(value), 3);
+        // Then
+        assertEquals(3, count);
+        assertEquals("012", drained.toString());
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void givenAnEmptyQueueWhenDrainingThenNothingIsConsumed() {
+        // Given
+        IntQueue queue = createQueue(8);
+        // When
+        int count = queue.drain(value -> {
+            throw new IllegalStateException("Unexpected value: " + value);
+        }, 3);
+        // Then
+        assertEquals(0, count);
+    }
+
+    /**
+     * Creates an empty instance of the queue under test.
+     *
+     * @param capacity the minimum capacity of the queue.
+     * @return an empty queue.
+     */
+    protected abstract IntQueue createQueue(int capacity);
+
+    private IntQueue createPopulatedQueue(int capacity, int size) {
+        IntQueue queue = createQueue(capacity);
+        for (int i = 0; i < size; i++) {
+            assertTrue(queue.offer(i));
+        }
+        return queue;
+    }
+}
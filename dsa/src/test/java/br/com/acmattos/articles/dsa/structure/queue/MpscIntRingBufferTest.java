@@ -0,0 +1,79 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscIntRingBufferTest extends IntQueueContractTest {
+    private static final int PRODUCERS = 4;
+    private static final int VALUES_PER_PRODUCER = 50_000;
+
+    @Test
+    void givenManyProducersAndOneConsumerWhenHandingOffValuesThenEveryValueArrivesInProducerOrder() {
+        // Given
+        IntQueue queue = createQueue(1_024);
+        CompletableFuture<?>[] producers = new CompletableFuture<?>[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = CompletableFuture.runAsync(() -> {
+                int[] batch = new int[8];
+                int next = 0;
+                while(next < VALUES_PER_PRODUCER) {
+                    int length = Math.min(batch.length, VALUES_PER_PRODUCER - next);
+                    for (int i = 0; i < length; i++) {
+                        batch[i] = encode(producer, next + i);
+                    }
+                    int offered = next % 3 == 0
+                        ? (queue.offer(batch[0]) ? 1 : 0)
+                        : queue.offer(batch, 0, length);
+                    next += offered;
+                    if(offered == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        // When
+        int[] expected = new int[PRODUCERS];
+        int[] received = {0};
+        while(received[0] < PRODUCERS * VALUES_PER_PRODUCER) {
+            int drained = queue.drain(value -> {
+                int producer = value >>> 24;
+                assertEquals(encode(producer, expected[producer]++), value);
+                received[0]++;
+            }, 128);
+            if(drained == 0) {
+                Thread.yield();
+            }
+        }
+        CompletableFuture.allOf(producers).join();
+        // Then
+        for (int p = 0; p < PRODUCERS; p++) {
+            assertEquals(VALUES_PER_PRODUCER, expected[p]);
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void givenAQueueWhenStringifyTheQueueThenSizeAndCapacityAreShown() {
+        // Given
+        IntQueue queue = createQueue(3);
+        queue.offer(1);
+        // When
+        String toString = queue.toString();
+        // Then
+        assertEquals("MpscIntRingBuffer=[size: 1, capacity: 4]", toString);
+    }
+
+    @Override
+    protected IntQueue createQueue(int capacity) {
+        return new MpscIntRingBuffer(capacity);
+    }
+
+    private static int encode(int producer, int sequence) {
+        return producer << 24 | sequence;
+    }
+}
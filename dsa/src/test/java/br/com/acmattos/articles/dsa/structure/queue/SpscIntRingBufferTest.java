@@ -0,0 +1,64 @@
+package br.com.acmattos.articles.dsa.structure.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpscIntRingBufferTest extends IntQueueContractTest {
+    private static final int HANDOFF_VALUES = 200_000;
+
+    @Test
+    void givenOneProducerAndOneConsumerWhenHandingOffValuesThenEveryValueArrivesInOrder() {
+        // Given
+        IntQueue queue = createQueue(1_024);
+        int[] batch = new int[64];
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            int next = 0;
+            while(next < HANDOFF_VALUES) {
+                int length = Math.min(batch.length, HANDOFF_VALUES - next);
+                for (int i = 0; i < length; i++) {
+                    batch[i] = next + i;
+                }
+                int offered = queue.offer(batch, 0, length);
+                next += offered;
+                if(offered == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        // When
+        long[] received = {0, 0};
+        while(received[0] < HANDOFF_VALUES) {
+            int drained = queue.drain(value -> {
+                assertEquals(received[0]++, value);
+                received[1] += value;
+            }, 128);
+            if(drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        // Then
+        assertEquals(HANDOFF_VALUES, received[0]);
+        assertEquals((long) HANDOFF_VALUES * (HANDOFF_VALUES - 1) / 2,
+            received[1]);
+    }
+
+    @Test
+    void givenAQueueWhenStringifyTheQueueThenSizeAndCapacityAreShown() {
+        // Given
+        IntQueue queue = createQueue(3);
+        queue.offer(1);
+        // When
+        String toString = queue.toString();
+        // Then
+        assertEquals("SpscIntRingBuffer=[size: 1, capacity: 4]", toString);
+    }
+
+    @Override
+    protected IntQueue createQueue(int capacity) {
+        return new SpscIntRingBuffer(capacity);
+    }
+}
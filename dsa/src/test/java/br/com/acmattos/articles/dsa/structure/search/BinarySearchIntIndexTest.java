@@ -0,0 +1,15 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+
+class BinarySearchIntIndexTest extends IntSearchIndexContractTest {
+    @Override
+    protected IntSearchIndex createIndex(int[] sorted) {
+        return new BinarySearchIntIndex(sorted);
+    }
+
+    @Override
+    protected IntSearchIndex createIndex(List list) {
+        return new BinarySearchIntIndex(list);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.List;
+
+class EytzingerIntIndexTest extends IntSearchIndexContractTest {
+    @Override
+    protected IntSearchIndex createIndex(int[] sorted) {
+        return new EytzingerIntIndex(sorted);
+    }
+
+    @Override
+    protected IntSearchIndex createIndex(List list) {
+        return new EytzingerIntIndex(list);
+    }
+}
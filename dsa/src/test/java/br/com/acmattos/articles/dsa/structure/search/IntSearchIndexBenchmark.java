@@ -0,0 +1,84 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup latency of the search index layouts once the values no
+ * longer fit in the caches. Only the index under test is built, so the
+ * largest size needs about 1.2 GB of heap.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile -Dbenchmark=IntSearchIndex}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class IntSearchIndexBenchmark {
+    private static final int KEYS = 1 << 12;
+
+    public enum Layout {
+        BINARY_SEARCH, EYTZINGER, S_TREE
+    }
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param
+    private Layout layout;
+
+    private IntSearchIndex index;
+    private int[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Even values only, so about half of the lookups miss.
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = 2 * i;
+        }
+        index = switch (layout) {
+            case BINARY_SEARCH -> new BinarySearchIntIndex(sorted);
+            case EYTZINGER -> new EytzingerIntIndex(sorted);
+            case S_TREE -> new STreeIntIndex(sorted);
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new int[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = random.nextInt(2 * size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void lowerBound(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(index.lowerBound(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void contains(Blackhole blackhole) {
+        for (int key : keys) {
+            blackhole.consume(index.contains(key));
+        }
+    }
+}
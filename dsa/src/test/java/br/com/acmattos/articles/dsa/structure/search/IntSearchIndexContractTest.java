@@ -0,0 +1,142 @@
+package br.com.acmattos.articles.dsa.structure.search;
+
+import br.com.acmattos.articles.dsa.structure.list.ArrayList;
+import br.com.acmattos.articles.dsa.structure.list.List;
+import br.com.acmattos.articles.dsa.structure.list.TreeIntList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contract every {@code IntSearchIndex} implementation must fulfil. Subclasses
+ * only provide the index under test.
+ */
+abstract class IntSearchIndexContractTest {
+    protected abstract IntSearchIndex createIndex(int[] sorted);
+
+    protected abstract IntSearchIndex createIndex(List list);
+
+    @Test
+    void givenAnEmptyIndexWhenSearchingThenNothingIsFound() {
+        // Given
+        IntSearchIndex index = createIndex(new int[0]);
+        // When / Then
+        assertEquals(0, index.size());
+        assertEquals(0, index.lowerBound(42));
+        assertFalse(index.contains(42));
+    }
+
+    @Test
+    void givenAnIndexWhenSearchingThenTheLowerBoundRankIsReturned() {
+        // Given
+        IntSearchIndex index = createIndex(new int[] {2, 4, 4, 4, 8});
+        // When / Then
+        assertEquals(5, index.size());
+        assertEquals(0, index.lowerBound(Integer.MIN_VALUE));
+        assertEquals(0, index.lowerBound(2));
+        assertEquals(1, index.lowerBound(3));
+        assertEquals(1, index.lowerBound(4));
+        assertEquals(4, index.lowerBound(5));
+        assertEquals(4, index.lowerBound(8));
+        assertEquals(5, index.lowerBound(9));
+        assertTrue(index.contains(4));
+        assertFalse(index.contains(5));
+    }
+
+    @Test
+    void givenAnIndexWithTheExtremeValuesWhenSearchingThenTheyAreFound() {
+        // Given
+        IntSearchIndex index = createIndex(
+            new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        // When / Then
+        assertTrue(index.contains(Integer.MIN_VALUE));
+        assertTrue(index.contains(Integer.MAX_VALUE));
+        assertEquals(2, index.lowerBound(1));
+        assertEquals(2, index.lowerBound(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void givenAnIndexWithoutTheMaximumValueWhenSearchingForItThenItIsNotFound() {
+        // Given
+        IntSearchIndex index = createIndex(new int[] {1, 2, 3});
+        // When / Then
+        assertFalse(index.contains(Integer.MAX_VALUE));
+        assertEquals(3, index.lowerBound(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void givenSortedListsWhenBuildingAnIndexThenTheirValuesAreIndexed() {
+        // Given
+        List array = new ArrayList();
+        List tree = new TreeIntList();
+        for (int i = 0; i < 100; i++) {
+            array.add(i * 3);
+            tree.add(i * 3);
+        }
+        // When
+        IntSearchIndex fromArray = createIndex(array);
+        IntSearchIndex fromTree = createIndex(tree);
+        // Then
+        for (int key = -1; key < 301; key++) {
+            int expected = Math.min((key + 2) / 3, 100);
+            assertEquals(expected, fromArray.lowerBound(key));
+            assertEquals(expected, fromTree.lowerBound(key));
+            assertEquals(key >= 0 && key % 3 == 0 && key < 300,
+                fromTree.contains(key));
+        }
+    }
+
+    @Test
+    void givenAnUnsortedListWhenBuildingAnIndexThenAnExceptionIsThrown() {
+        // Given
+        List list = new ArrayList();
+        list.add(1);
+        list.add(3);
+        list.add(2);
+        // When
+        Throwable throwable =
+            assertThrows(IllegalStateException.class, () -> createIndex(list));
+        // Then
+        assertNotNull(throwable);
+        assertEquals("The values must be sorted: 3 > 2 at index 2!",
+            throwable.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 15, 16, 17, 271, 289, 290, 4913, 10_000})
+    void givenRandomSortedValuesWhenSearchingThenTheResultsMatchABinarySearch(
+        int size) {
+        // Given
+        Random random = new Random(size);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = random.nextInt(2 * size) - size;
+        }
+        Arrays.sort(sorted);
+        IntSearchIndex index = createIndex(sorted);
+        // When / Then
+        for (int key = -size - 2; key < size + 2; key++) {
+            assertEquals(lowerBound(sorted, key), index.lowerBound(key),
+                "key: " + key);
+            assertEquals(Arrays.binarySearch(sorted, key) >= 0,
+                index.contains(key), "key: " + key);
+        }
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        int rank = 0;
+        while(rank < sorted.length && sorted[rank] < key) {
+            rank++;
+        }
+        return rank;
+    }
+}